@@ -21,6 +21,11 @@ public enum Alliance {
             return true;
         }
 
+        @Override
+        public Alliance getOpposite() {
+            return BLACK;
+        }
+
         @Override
         public Player choosePlayer(final WhitePlayer whitePlayer, final BlackPlayer blackPlayer) {
             return whitePlayer;
@@ -42,6 +47,11 @@ public enum Alliance {
             return false;
         }
 
+        @Override
+        public Alliance getOpposite() {
+            return WHITE;
+        }
+
         @Override
         public Player choosePlayer(final WhitePlayer whitePlayer, final BlackPlayer blackPlayer) {
             return blackPlayer;
@@ -54,5 +64,7 @@ public enum Alliance {
 
     public abstract boolean isWhite();
 
+    public abstract Alliance getOpposite();
+
     public abstract Player choosePlayer(WhitePlayer whitePlayer, BlackPlayer blackPlayer);
 }
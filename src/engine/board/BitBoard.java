@@ -0,0 +1,120 @@
+package engine.board;
+
+import engine.Alliance;
+import engine.pieces.Piece;
+import engine.pieces.Piece.PieceType;
+
+public final class BitBoard {
+
+    public static final long EMPTY = 0L;
+    public static final long ALL_TILES = ~0L;
+
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    private static final int NUM_PIECE_TYPES = PIECE_TYPES.length;
+
+    //one set per alliance and piece type, bit n is tile coordinate n
+    private final long[] pieceSets;
+    private final long whiteOccupancy;
+    private final long blackOccupancy;
+
+    private BitBoard(final long[] pieceSets){
+        this.pieceSets = pieceSets;
+        this.whiteOccupancy = calculateOccupancy(pieceSets, Alliance.WHITE);
+        this.blackOccupancy = calculateOccupancy(pieceSets, Alliance.BLACK);
+    }
+
+    static BitBoard createBitBoard(final Piece[] boardConfig){
+        final long[] pieceSets = new long[Alliance.values().length * NUM_PIECE_TYPES];
+        for(int i = 0; i < BoardUtils.NUM_TILES; i++){
+            final Piece piece = boardConfig[i];
+            if(piece != null){
+                pieceSets[pieceSetIndex(piece.getPieceAlliance(), piece.getPieceType())] |= tileMask(i);
+            }
+        }
+        return new BitBoard(pieceSets);
+    }
+
+    public static int pieceSetIndex(final Alliance alliance, final PieceType pieceType){
+        return alliance.ordinal() * NUM_PIECE_TYPES + pieceType.ordinal();
+    }
+
+    public static PieceType pieceTypeOf(final int pieceCode){
+        return PIECE_TYPES[pieceCode % NUM_PIECE_TYPES];
+    }
+
+    public static long tileMask(final int tileCoordinate){
+        return 1L << tileCoordinate;
+    }
+
+    public static int firstTile(final long tiles){
+        return Long.numberOfTrailingZeros(tiles);
+    }
+
+    public static long clearFirstTile(final long tiles){
+        return tiles & (tiles - 1);
+    }
+
+    public static int countTiles(final long tiles){
+        return Long.bitCount(tiles);
+    }
+
+    public long getPieces(final Alliance alliance, final PieceType pieceType){
+        return this.pieceSets[pieceSetIndex(alliance, pieceType)];
+    }
+
+    public long getPieces(final PieceType pieceType){
+        return getPieces(Alliance.WHITE, pieceType) | getPieces(Alliance.BLACK, pieceType);
+    }
+
+    public long getOccupancy(final Alliance alliance){
+        return alliance.isWhite() ? this.whiteOccupancy : this.blackOccupancy;
+    }
+
+    public long getOccupancy(){
+        return this.whiteOccupancy | this.blackOccupancy;
+    }
+
+    public long getEmptyTiles(){
+        return ~getOccupancy();
+    }
+
+    public boolean isOccupied(final int tileCoordinate){
+        return (getOccupancy() & tileMask(tileCoordinate)) != 0;
+    }
+
+    public boolean isOccupiedBy(final int tileCoordinate, final Alliance alliance){
+        return (getOccupancy(alliance) & tileMask(tileCoordinate)) != 0;
+    }
+
+    public long getAttackers(final int tileCoordinate, final Alliance attackerAlliance){
+        return calculateAttackers(this.pieceSets, getOccupancy(), tileCoordinate, attackerAlliance);
+    }
+
+    //attackers through the given occupancy, pieces missing from it neither block nor attack
+    public long getAttackers(final int tileCoordinate, final Alliance attackerAlliance, final long occupancy){
+        return calculateAttackers(this.pieceSets, occupancy, tileCoordinate, attackerAlliance) & occupancy;
+    }
+
+    public boolean isTileAttacked(final int tileCoordinate, final Alliance attackerAlliance){
+        return getAttackers(tileCoordinate, attackerAlliance) != EMPTY;
+    }
+
+    static long calculateAttackers(final long[] pieceSets, final long occupancy, final int tileCoordinate,
+                                   final Alliance attackerAlliance){
+        final int offset = pieceSetIndex(attackerAlliance, PieceType.PAWN);
+        final long queens = pieceSets[offset + PieceType.QUEEN.ordinal()];
+        return (BoardUtils.PAWN_ATTACKS[attackerAlliance.getOpposite().ordinal()][tileCoordinate] & pieceSets[offset]) |
+                (BoardUtils.KNIGHT_ATTACKS[tileCoordinate] & pieceSets[offset + PieceType.KNIGHT.ordinal()]) |
+                (BoardUtils.KING_ATTACKS[tileCoordinate] & pieceSets[offset + PieceType.KING.ordinal()]) |
+                (MagicBitBoards.bishopAttacks(tileCoordinate, occupancy) & (pieceSets[offset + PieceType.BISHOP.ordinal()] | queens)) |
+                (MagicBitBoards.rookAttacks(tileCoordinate, occupancy) & (pieceSets[offset + PieceType.ROOK.ordinal()] | queens));
+    }
+
+    private static long calculateOccupancy(final long[] pieceSets, final Alliance alliance){
+        long occupancy = EMPTY;
+        for(final PieceType pieceType : PieceType.values()){
+            occupancy |= pieceSets[pieceSetIndex(alliance, pieceType)];
+        }
+        return occupancy;
+    }
+}
@@ -1,9 +1,12 @@
 package engine.board;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import engine.Alliance;
 import engine.pieces.*;
+import engine.pieces.Piece.PieceType;
 import engine.player.BlackPlayer;
 import engine.player.Player;
 import engine.player.WhitePlayer;
@@ -12,23 +15,34 @@ import java.util.*;
 
 public class Board {
 
-    private final List<Tile> gameBoard;
+    private final Piece[] boardConfig;
+    private final BitBoard bitBoard;
+    private final Pawn enPassantPawn;
+    private final int castlingRights;
+    private final long zobristKey;
     private final Collection<Piece> whitePieces;
     private final Collection<Piece> blackPieces;
 
     private final WhitePlayer whitePlayer;
     private final BlackPlayer blackPlayer;
     private final Player currentPlayer;
+    private final Supplier<Map<Integer, Move>> moveIndex;
 
     private Board(final Builder builder){
-        this.gameBoard = createGameBoard(builder);
-        this.whitePieces = calculateActivePieces(this.gameBoard, Alliance.WHITE);
-        this.blackPieces = calculateActivePieces(this.gameBoard, Alliance.BLACK);
-        final Collection<Move> whiteStandardLegalMoves = calculateLegalMoves(this.whitePieces);
-        final Collection<Move> blackStandardLegalMoves = calculateLegalMoves(this.blackPieces);
-        this.whitePlayer = new WhitePlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
-        this.blackPlayer = new BlackPlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
+        this.boardConfig = createBoardConfig(builder);
+        this.bitBoard = BitBoard.createBitBoard(this.boardConfig);
+        this.enPassantPawn = builder.enPassantPawn;
+        this.castlingRights = calculateCastlingRights();
+        this.zobristKey = builder.hasZobristKey ? builder.zobristKey :
+                Zobrist.calculateKey(this.boardConfig, builder.nextMoveMaker, this.castlingRights, getEnPassantCoordinate());
+        this.whitePieces = calculateActivePieces(Alliance.WHITE);
+        this.blackPieces = calculateActivePieces(Alliance.BLACK);
+        final Supplier<Collection<Move>> whiteStandardLegalMoves = Suppliers.memoize(() -> calculateLegalMoves(this.whitePieces));
+        final Supplier<Collection<Move>> blackStandardLegalMoves = Suppliers.memoize(() -> calculateLegalMoves(this.blackPieces));
+        this.whitePlayer = new WhitePlayer(this, whiteStandardLegalMoves);
+        this.blackPlayer = new BlackPlayer(this, blackStandardLegalMoves);
         this.currentPlayer = builder.nextMoveMaker.choosePlayer(this.whitePlayer, this.blackPlayer);
+        this.moveIndex = Suppliers.memoize(this::calculateMoveIndex);
     }
 
     @Override
@@ -36,7 +50,7 @@ public class Board {
         final StringBuilder builder = new StringBuilder();
 
         for(int i = 0; i < BoardUtils.NUM_TILES; i++){
-            final String tileText = this.gameBoard.get(i).toString();
+            final String tileText = getTile(i).toString();
             builder.append(String.format("%3s", tileText));
             if((i+1) % BoardUtils.NUM_TILES_PER_ROW == 0){
                 builder.append("\n");
@@ -76,30 +90,88 @@ public class Board {
         return ImmutableList.copyOf(legalMoves);
     }
 
-    private static Collection<Piece> calculateActivePieces(final List<Tile> gameBoard, final Alliance alliance) {
-        final List<Piece> activePieces = new ArrayList<>();
+    //the side to move's move between two tiles, NULL_MOVE if there is none; a null promotion type means a queen
+    public Move findMove(final int currentCoordinate, final int destinationCoordinate, final PieceType promotionType){
+        return this.moveIndex.get().getOrDefault(moveIndexKey(currentCoordinate, destinationCoordinate, promotionType), Move.NULL_MOVE);
+    }
 
-        for(final Tile tile : gameBoard){
-            if(tile.isTileOccupied()){
-                final Piece piece = tile.getPiece();
-                if(piece.getPieceAlliance() == alliance){
-                    activePieces.add(piece);
-                }
+    //built on first lookup and only for the side to move, the opponent's moves can never be played here;
+    //moves that leave the king in check stay in, so makeMove can still report why they fail
+    private Map<Integer, Move> calculateMoveIndex(){
+        final Map<Integer, Move> index = new HashMap<>();
+        for(final Move move : this.currentPlayer.getPseudoLegalMoves()){
+            final PieceType promotionType = move instanceof Move.PawnPromotion ?
+                    ((Move.PawnPromotion) move).getPromotionPiece().getPieceType() : null;
+            index.put(moveIndexKey(move.getCurrentCoordinate(), move.getDestinationCoordinate(), promotionType), move);
+            if(promotionType == PieceType.QUEEN){
+                index.put(moveIndexKey(move.getCurrentCoordinate(), move.getDestinationCoordinate(), null), move);
             }
         }
+        return index;
+    }
+
+    private static int moveIndexKey(final int currentCoordinate, final int destinationCoordinate, final PieceType promotionType){
+        return currentCoordinate | destinationCoordinate << 6 | (promotionType == null ? 0 : promotionType.ordinal() + 1) << 12;
+    }
+
+    private Collection<Piece> calculateActivePieces(final Alliance alliance) {
+        long occupancy = this.bitBoard.getOccupancy(alliance);
+        final Piece[] activePieces = new Piece[BitBoard.countTiles(occupancy)];
+
+        for(int i = 0; occupancy != BitBoard.EMPTY; i++){
+            activePieces[i] = this.boardConfig[BitBoard.firstTile(occupancy)];
+            occupancy = BitBoard.clearFirstTile(occupancy);
+        }
         return ImmutableList.copyOf(activePieces);
     }
 
     public Tile getTile(final int tileCoordinate) {
-        return gameBoard.get(tileCoordinate);
+        return Tile.createTile(tileCoordinate, this.boardConfig[tileCoordinate]);
     }
 
-    private static List<Tile> createGameBoard(final Builder builder){
-        final Tile[] tiles = new Tile[BoardUtils.NUM_TILES];
-        for(int i = 0; i < BoardUtils.NUM_TILES; i++){
-            tiles[i] = Tile.createTile(i, builder.boardConfig.get(i));
-        }
-        return ImmutableList.copyOf(tiles);
+    public Piece getPiece(final int tileCoordinate) {
+        return this.boardConfig[tileCoordinate];
+    }
+
+    public BitBoard getBitBoard(){
+        return this.bitBoard;
+    }
+
+    public Pawn getEnPassantPawn(){
+        return this.enPassantPawn;
+    }
+
+    public int getEnPassantCoordinate(){
+        return this.enPassantPawn == null ? -1 : this.enPassantPawn.getPiecePosition() -
+                (this.enPassantPawn.getPieceAlliance().getDirection() * BoardUtils.NUM_TILES_PER_ROW);
+    }
+
+    public int getCastlingRights(){
+        return this.castlingRights;
+    }
+
+    public long zobristKey(){
+        return this.zobristKey;
+    }
+
+    private int calculateCastlingRights(){
+        return (hasCastlingPieces(60, 63) ? BoardUtils.WHITE_KING_SIDE_CASTLE : 0) |
+                (hasCastlingPieces(60, 56) ? BoardUtils.WHITE_QUEEN_SIDE_CASTLE : 0) |
+                (hasCastlingPieces(4, 7) ? BoardUtils.BLACK_KING_SIDE_CASTLE : 0) |
+                (hasCastlingPieces(4, 0) ? BoardUtils.BLACK_QUEEN_SIDE_CASTLE : 0);
+    }
+
+    private boolean hasCastlingPieces(final int kingCoordinate, final int rookCoordinate){
+        final Piece king = this.boardConfig[kingCoordinate];
+        final Piece rook = this.boardConfig[rookCoordinate];
+        return king != null && king.getPieceType().isKing() && king.isFirstMove() &&
+                rook != null && rook.getPieceType().isRook() && rook.isFirstMove() &&
+                rook.getPieceAlliance() == king.getPieceAlliance();
+    }
+
+    //copied so a builder can keep being filled after build
+    private static Piece[] createBoardConfig(final Builder builder){
+        return builder.boardConfig.clone();
     }
 
     public static Board createStandardBoard(){
@@ -149,16 +221,18 @@ public class Board {
 
     public static class Builder {
 
-        Map<Integer, Piece> boardConfig;
+        final Piece[] boardConfig;
         Alliance nextMoveMaker;
         Pawn enPassantPawn;
+        long zobristKey;
+        boolean hasZobristKey;
 
         public Builder(){
-            this.boardConfig = new HashMap<>();
+            this.boardConfig = new Piece[BoardUtils.NUM_TILES];
         }
 
         public Builder setPiece(final Piece piece){
-            this.boardConfig.put(piece.getPiecePosition(), piece);
+            this.boardConfig[piece.getPiecePosition()] = piece;
             return this;
         }
 
@@ -171,8 +245,16 @@ public class Board {
             return new Board(this);
         }
 
-        public void setEnPassantPawn(Pawn enPassantPawn) {
+        public Builder setEnPassantPawn(final Pawn enPassantPawn) {
             this.enPassantPawn = enPassantPawn;
+            return this;
+        }
+
+        //lets a move hand over the key it derived incrementally from its parent board
+        Builder setZobristKey(final long zobristKey) {
+            this.zobristKey = zobristKey;
+            this.hasZobristKey = true;
+            return this;
         }
     }
 }
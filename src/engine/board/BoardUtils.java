@@ -1,5 +1,9 @@
 package engine.board;
 
+import engine.Alliance;
+
+import java.util.Arrays;
+
 public class BoardUtils {
 
     public static final boolean[] FIRST_COLUMN = initColumn(0);
@@ -19,6 +23,26 @@ public class BoardUtils {
     public static final int NUM_TILES = 64;
     public static final int NUM_TILES_PER_ROW = 8;
 
+    public static final int WHITE_KING_SIDE_CASTLE = 1;
+    public static final int WHITE_QUEEN_SIDE_CASTLE = 2;
+    public static final int BLACK_KING_SIDE_CASTLE = 4;
+    public static final int BLACK_QUEEN_SIDE_CASTLE = 8;
+    public static final int ALL_CASTLES = 15;
+
+    //castling rights that survive a move touching the given tile
+    static final int[] CASTLING_RIGHTS_MASKS = initCastlingRightsMasks();
+
+    private static final int[][] KNIGHT_OFFSETS = {{-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}};
+    private static final int[][] KING_OFFSETS = {{-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}};
+
+    public static final long[] KNIGHT_ATTACKS = initLeaperAttacks(KNIGHT_OFFSETS);
+    public static final long[] KING_ATTACKS = initLeaperAttacks(KING_OFFSETS);
+
+    //indexed by the pawn's alliance ordinal, then by its tile coordinate
+    public static final long[][] PAWN_ATTACKS = initPawnTiles(new int[][]{{1, -1}, {1, 1}}, false);
+    public static final long[][] PAWN_PUSHES = initPawnTiles(new int[][]{{1, 0}}, false);
+    public static final long[][] PAWN_JUMPS = initPawnTiles(new int[][]{{2, 0}}, true);
+
     private BoardUtils(){
         throw new RuntimeException("You cannot instantiate me!");
     }
@@ -27,6 +51,67 @@ public class BoardUtils {
         return coordinate >=0 && coordinate < NUM_TILES;
     }
 
+    public static String getPositionAtCoordinate(final int coordinate) {
+        return String.valueOf((char) ('a' + coordinate % NUM_TILES_PER_ROW)) + (NUM_TILES_PER_ROW - coordinate / NUM_TILES_PER_ROW);
+    }
+
+    public static int getCoordinateAtPosition(final String position) {
+        if(position.length() != 2){
+            throw new RuntimeException("Invalid position: " + position);
+        }
+        final int column = position.charAt(0) - 'a';
+        final int row = NUM_TILES_PER_ROW - (position.charAt(1) - '0');
+        if(column < 0 || column >= NUM_TILES_PER_ROW || row < 0 || row >= NUM_TILES_PER_ROW){
+            throw new RuntimeException("Invalid position: " + position);
+        }
+        return row * NUM_TILES_PER_ROW + column;
+    }
+
+    private static int[] initCastlingRightsMasks(){
+        final int[] masks = new int[NUM_TILES];
+        Arrays.fill(masks, ALL_CASTLES);
+        masks[60] &= ~(WHITE_KING_SIDE_CASTLE | WHITE_QUEEN_SIDE_CASTLE);
+        masks[63] &= ~WHITE_KING_SIDE_CASTLE;
+        masks[56] &= ~WHITE_QUEEN_SIDE_CASTLE;
+        masks[4] &= ~(BLACK_KING_SIDE_CASTLE | BLACK_QUEEN_SIDE_CASTLE);
+        masks[7] &= ~BLACK_KING_SIDE_CASTLE;
+        masks[0] &= ~BLACK_QUEEN_SIDE_CASTLE;
+        return masks;
+    }
+
+    private static long[] initLeaperAttacks(final int[][] offsets){
+        final long[] attacks = new long[NUM_TILES];
+        for(int i = 0; i < NUM_TILES; i++){
+            attacks[i] = calculateTargetTiles(i, offsets, 1);
+        }
+        return attacks;
+    }
+
+    private static long[][] initPawnTiles(final int[][] offsets, final boolean startingRowOnly){
+        final long[][] pawnTiles = new long[Alliance.values().length][NUM_TILES];
+        for(final Alliance alliance : Alliance.values()){
+            final int startingRow = alliance.isWhite() ? NUM_TILES_PER_ROW - 2 : 1;
+            for(int i = 0; i < NUM_TILES; i++){
+                if(!startingRowOnly || i / NUM_TILES_PER_ROW == startingRow){
+                    pawnTiles[alliance.ordinal()][i] = calculateTargetTiles(i, offsets, alliance.getDirection());
+                }
+            }
+        }
+        return pawnTiles;
+    }
+
+    private static long calculateTargetTiles(final int tileCoordinate, final int[][] offsets, final int rowDirection){
+        long targets = 0L;
+        for(final int[] offset : offsets){
+            final int row = tileCoordinate / NUM_TILES_PER_ROW + offset[0] * rowDirection;
+            final int column = tileCoordinate % NUM_TILES_PER_ROW + offset[1];
+            if(row >= 0 && row < NUM_TILES_PER_ROW && column >= 0 && column < NUM_TILES_PER_ROW){
+                targets |= 1L << (row * NUM_TILES_PER_ROW + column);
+            }
+        }
+        return targets;
+    }
+
     private static boolean[] initRow(int rowNumber){
         final boolean[] row = new boolean[NUM_TILES];
         do{
@@ -0,0 +1,211 @@
+package engine.board;
+
+import engine.Alliance;
+import engine.pieces.Pawn;
+import engine.pieces.Piece;
+import engine.pieces.Piece.PieceType;
+
+public class FenUtilities {
+
+    private static final int PLACEMENT = 0;
+    private static final int SIDE_TO_MOVE = 1;
+    private static final int CASTLING = 2;
+    private static final int EN_PASSANT = 3;
+    private static final int REQUIRED_FIELDS = 4;
+
+    private FenUtilities(){
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static Board createGameFromFEN(final String fenString){
+        //start and end of each of the four required fields, found in a single pass without splitting
+        final int[] fieldBounds = new int[2 * REQUIRED_FIELDS];
+        int fieldCount = 0;
+        int i = 0;
+        while(fieldCount < REQUIRED_FIELDS && i < fenString.length()){
+            while(i < fenString.length() && Character.isWhitespace(fenString.charAt(i))){
+                i++;
+            }
+            final int start = i;
+            while(i < fenString.length() && !Character.isWhitespace(fenString.charAt(i))){
+                i++;
+            }
+            if(i > start){
+                fieldBounds[2 * fieldCount] = start;
+                fieldBounds[2 * fieldCount + 1] = i;
+                fieldCount++;
+            }
+        }
+        if(fieldCount < REQUIRED_FIELDS){
+            throw new RuntimeException("Invalid FEN: " + fenString);
+        }
+
+        final Alliance moveMaker = parseMoveMaker(fenString, fieldBounds[2 * SIDE_TO_MOVE], fieldBounds[2 * SIDE_TO_MOVE + 1]);
+        final int castlingRights = parseCastlingRights(fenString, fieldBounds[2 * CASTLING], fieldBounds[2 * CASTLING + 1]);
+        final int enPassantPawnCoordinate = parseEnPassantPawnCoordinate(fenString, fieldBounds[2 * EN_PASSANT],
+                fieldBounds[2 * EN_PASSANT + 1], moveMaker);
+
+        final Board.Builder builder = new Board.Builder();
+        final int placementEnd = fieldBounds[2 * PLACEMENT + 1];
+        int row = 0;
+        int column = 0;
+        for(int c = fieldBounds[2 * PLACEMENT]; c < placementEnd; c++){
+            final char pieceChar = fenString.charAt(c);
+            if(pieceChar == '/'){
+                if(column != BoardUtils.NUM_TILES_PER_ROW){
+                    throw new RuntimeException("Invalid FEN row " + (row + 1) + ": " + fenString);
+                }
+                row++;
+                column = 0;
+            } else if(pieceChar >= '1' && pieceChar <= '8'){
+                column += pieceChar - '0';
+            } else {
+                if(row >= BoardUtils.NUM_TILES_PER_ROW || column >= BoardUtils.NUM_TILES_PER_ROW){
+                    throw new RuntimeException("Invalid FEN piece placement: " + fenString);
+                }
+                final int tileCoordinate = row * BoardUtils.NUM_TILES_PER_ROW + column;
+                final Alliance alliance = Character.isUpperCase(pieceChar) ? Alliance.WHITE : Alliance.BLACK;
+                final PieceType pieceType = parsePieceType(pieceChar);
+                final Piece piece = pieceType.createPiece(tileCoordinate, alliance,
+                        isFirstMove(pieceType, tileCoordinate, castlingRights));
+                builder.setPiece(piece);
+                if(tileCoordinate == enPassantPawnCoordinate && pieceType == PieceType.PAWN){
+                    builder.setEnPassantPawn((Pawn) piece);
+                }
+                column++;
+            }
+        }
+        if(row != BoardUtils.NUM_TILES_PER_ROW - 1 || column != BoardUtils.NUM_TILES_PER_ROW){
+            throw new RuntimeException("Invalid FEN piece placement: " + fenString);
+        }
+        builder.setMoveMoker(moveMaker);
+        return builder.build();
+    }
+
+    //the board does not track move counters, so they are always written as 0 and 1
+    public static String createFENFromGame(final Board board){
+        final StringBuilder builder = new StringBuilder(90);
+        for(int row = 0; row < BoardUtils.NUM_TILES_PER_ROW; row++){
+            int emptyTiles = 0;
+            for(int column = 0; column < BoardUtils.NUM_TILES_PER_ROW; column++){
+                final Piece piece = board.getPiece(row * BoardUtils.NUM_TILES_PER_ROW + column);
+                if(piece == null){
+                    emptyTiles++;
+                    continue;
+                }
+                if(emptyTiles > 0){
+                    builder.append(emptyTiles);
+                    emptyTiles = 0;
+                }
+                final char pieceChar = piece.getPieceType().toString().charAt(0);
+                builder.append(piece.getPieceAlliance().isWhite() ? pieceChar : Character.toLowerCase(pieceChar));
+            }
+            if(emptyTiles > 0){
+                builder.append(emptyTiles);
+            }
+            if(row < BoardUtils.NUM_TILES_PER_ROW - 1){
+                builder.append('/');
+            }
+        }
+        builder.append(board.currentPlayer().getAlliance().isWhite() ? " w " : " b ");
+        appendCastlingRights(builder, board.getCastlingRights());
+        builder.append(' ');
+        final int enPassantCoordinate = board.getEnPassantCoordinate();
+        builder.append(enPassantCoordinate == -1 ? "-" : BoardUtils.getPositionAtCoordinate(enPassantCoordinate));
+        return builder.append(" 0 1").toString();
+    }
+
+    private static void appendCastlingRights(final StringBuilder builder, final int castlingRights){
+        if(castlingRights == 0){
+            builder.append('-');
+            return;
+        }
+        if((castlingRights & BoardUtils.WHITE_KING_SIDE_CASTLE) != 0){
+            builder.append('K');
+        }
+        if((castlingRights & BoardUtils.WHITE_QUEEN_SIDE_CASTLE) != 0){
+            builder.append('Q');
+        }
+        if((castlingRights & BoardUtils.BLACK_KING_SIDE_CASTLE) != 0){
+            builder.append('k');
+        }
+        if((castlingRights & BoardUtils.BLACK_QUEEN_SIDE_CASTLE) != 0){
+            builder.append('q');
+        }
+    }
+
+    private static Alliance parseMoveMaker(final String fenString, final int start, final int end){
+        if(end - start == 1){
+            if(fenString.charAt(start) == 'w'){
+                return Alliance.WHITE;
+            } else if(fenString.charAt(start) == 'b'){
+                return Alliance.BLACK;
+            }
+        }
+        throw new RuntimeException("Invalid FEN side to move: " + fenString.substring(start, end));
+    }
+
+    private static int parseCastlingRights(final String fenString, final int start, final int end){
+        if(end - start == 1 && fenString.charAt(start) == '-'){
+            return 0;
+        }
+        int castlingRights = 0;
+        for(int c = start; c < end; c++){
+            switch (fenString.charAt(c)){
+                case 'K':
+                    castlingRights |= BoardUtils.WHITE_KING_SIDE_CASTLE;
+                    break;
+                case 'Q':
+                    castlingRights |= BoardUtils.WHITE_QUEEN_SIDE_CASTLE;
+                    break;
+                case 'k':
+                    castlingRights |= BoardUtils.BLACK_KING_SIDE_CASTLE;
+                    break;
+                case 'q':
+                    castlingRights |= BoardUtils.BLACK_QUEEN_SIDE_CASTLE;
+                    break;
+                default:
+                    throw new RuntimeException("Invalid FEN castling rights: " + fenString.substring(start, end));
+            }
+        }
+        return castlingRights;
+    }
+
+    //the pawn that just jumped stands one row past the en passant tile
+    private static int parseEnPassantPawnCoordinate(final String fenString, final int start, final int end,
+                                                    final Alliance moveMaker){
+        if(end - start == 1 && fenString.charAt(start) == '-'){
+            return -1;
+        }
+        return BoardUtils.getCoordinateAtPosition(fenString.substring(start, end)) -
+                moveMaker.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+    }
+
+    private static PieceType parsePieceType(final char pieceChar){
+        switch (Character.toUpperCase(pieceChar)){
+            case 'P':
+                return PieceType.PAWN;
+            case 'N':
+                return PieceType.KNIGHT;
+            case 'B':
+                return PieceType.BISHOP;
+            case 'R':
+                return PieceType.ROOK;
+            case 'Q':
+                return PieceType.QUEEN;
+            case 'K':
+                return PieceType.KING;
+            default:
+                throw new RuntimeException("Invalid FEN piece: " + pieceChar);
+        }
+    }
+
+    //kings and rooks only count as unmoved while they still hold a castling right
+    private static boolean isFirstMove(final PieceType pieceType, final int tileCoordinate, final int castlingRights){
+        if(!pieceType.isKing() && !pieceType.isRook()){
+            return false;
+        }
+        return (castlingRights & ~BoardUtils.CASTLING_RIGHTS_MASKS[tileCoordinate]) != 0 &&
+                (pieceType.isKing() == (tileCoordinate == 60 || tileCoordinate == 4));
+    }
+}
@@ -0,0 +1,125 @@
+package engine.board;
+
+import com.google.common.collect.ImmutableList;
+import engine.Alliance;
+import engine.pieces.Piece.PieceType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public final class LegalMoveGenerator {
+
+    //tiles strictly between two aligned tiles, and the whole line through them, empty when they are not aligned
+    private static final long[][] BETWEEN = new long[BoardUtils.NUM_TILES][BoardUtils.NUM_TILES];
+    private static final long[][] LINE = new long[BoardUtils.NUM_TILES][BoardUtils.NUM_TILES];
+
+    static {
+        for(int from = 0; from < BoardUtils.NUM_TILES; from++){
+            for(int to = 0; to < BoardUtils.NUM_TILES; to++){
+                if(from == to){
+                    continue;
+                }
+                final long ends = BitBoard.tileMask(from) | BitBoard.tileMask(to);
+                if((MagicBitBoards.rookAttacks(from, BitBoard.EMPTY) & BitBoard.tileMask(to)) != BitBoard.EMPTY){
+                    BETWEEN[from][to] = MagicBitBoards.rookAttacks(from, BitBoard.tileMask(to)) &
+                            MagicBitBoards.rookAttacks(to, BitBoard.tileMask(from));
+                    LINE[from][to] = (MagicBitBoards.rookAttacks(from, BitBoard.EMPTY) &
+                            MagicBitBoards.rookAttacks(to, BitBoard.EMPTY)) | ends;
+                } else if((MagicBitBoards.bishopAttacks(from, BitBoard.EMPTY) & BitBoard.tileMask(to)) != BitBoard.EMPTY){
+                    BETWEEN[from][to] = MagicBitBoards.bishopAttacks(from, BitBoard.tileMask(to)) &
+                            MagicBitBoards.bishopAttacks(to, BitBoard.tileMask(from));
+                    LINE[from][to] = (MagicBitBoards.bishopAttacks(from, BitBoard.EMPTY) &
+                            MagicBitBoards.bishopAttacks(to, BitBoard.EMPTY)) | ends;
+                }
+            }
+        }
+    }
+
+    private final BitBoard bitBoard;
+    private final Alliance alliance;
+    private final int kingCoordinate;
+    private final long checkers;
+    private final long pinned;
+    //tiles a non-king move has to land on, the checker and the tiles blocking it when in check
+    private final long evasionMask;
+
+    //everything that decides legality is worked out once, after that each move is a few mask tests
+    public LegalMoveGenerator(final Board board, final Alliance alliance){
+        this.bitBoard = board.getBitBoard();
+        this.alliance = alliance;
+        this.kingCoordinate = BitBoard.firstTile(this.bitBoard.getPieces(alliance, PieceType.KING));
+        this.checkers = this.bitBoard.getAttackers(this.kingCoordinate, alliance.getOpposite());
+        this.pinned = calculatePinned();
+        if(this.checkers == BitBoard.EMPTY){
+            this.evasionMask = BitBoard.ALL_TILES;
+        } else if(BitBoard.countTiles(this.checkers) == 1){
+            this.evasionMask = this.checkers | BETWEEN[this.kingCoordinate][BitBoard.firstTile(this.checkers)];
+        } else {
+            this.evasionMask = BitBoard.EMPTY;
+        }
+    }
+
+    public List<Move> generateLegalMoves(final Collection<Move> pseudoLegalMoves){
+        final List<Move> legalMoves = new ArrayList<>(pseudoLegalMoves.size());
+        for(final Move move : pseudoLegalMoves){
+            if(isLegal(move)){
+                legalMoves.add(move);
+            }
+        }
+        return ImmutableList.copyOf(legalMoves);
+    }
+
+    //expects a pseudo legal move of this side, castles are generated only when the king's path is safe
+    public boolean isLegal(final Move move){
+        if(move.isCastlingMove()){
+            return true;
+        }
+        final int from = move.getCurrentCoordinate();
+        final int to = move.getDestinationCoordinate();
+        final long occupancy = this.bitBoard.getOccupancy();
+        if(from == this.kingCoordinate){
+            return this.bitBoard.getAttackers(to, this.alliance.getOpposite(), occupancy ^ BitBoard.tileMask(from)) == BitBoard.EMPTY;
+        }
+        if(move instanceof Move.PawnEnPassantAttackMove){
+            //the two pawns leave the same rank at once, which can uncover a slider however the pins look
+            final long afterCapture = occupancy ^ BitBoard.tileMask(from) ^ BitBoard.tileMask(to) ^
+                    BitBoard.tileMask(move.getAttackedPiece().getPiecePosition());
+            return this.bitBoard.getAttackers(this.kingCoordinate, this.alliance.getOpposite(), afterCapture) == BitBoard.EMPTY;
+        }
+        if((this.evasionMask & BitBoard.tileMask(to)) == BitBoard.EMPTY){
+            return false;
+        }
+        return (this.pinned & BitBoard.tileMask(from)) == BitBoard.EMPTY ||
+                (LINE[this.kingCoordinate][from] & BitBoard.tileMask(to)) != BitBoard.EMPTY;
+    }
+
+    public long getCheckers(){
+        return this.checkers;
+    }
+
+    public long getPinned(){
+        return this.pinned;
+    }
+
+    //own pieces that are the only thing between the king and an enemy slider on its line
+    private long calculatePinned(){
+        final Alliance opponent = this.alliance.getOpposite();
+        final long queens = this.bitBoard.getPieces(opponent, PieceType.QUEEN);
+        long snipers = (MagicBitBoards.rookAttacks(this.kingCoordinate, BitBoard.EMPTY) &
+                (this.bitBoard.getPieces(opponent, PieceType.ROOK) | queens)) |
+                (MagicBitBoards.bishopAttacks(this.kingCoordinate, BitBoard.EMPTY) &
+                (this.bitBoard.getPieces(opponent, PieceType.BISHOP) | queens));
+        final long occupancy = this.bitBoard.getOccupancy();
+        final long ownPieces = this.bitBoard.getOccupancy(this.alliance);
+        long pinnedPieces = BitBoard.EMPTY;
+        while(snipers != BitBoard.EMPTY){
+            final long blockers = BETWEEN[this.kingCoordinate][BitBoard.firstTile(snipers)] & occupancy;
+            if(BitBoard.countTiles(blockers) == 1 && (blockers & ownPieces) != BitBoard.EMPTY){
+                pinnedPieces |= blockers;
+            }
+            snipers = BitBoard.clearFirstTile(snipers);
+        }
+        return pinnedPieces;
+    }
+}
@@ -0,0 +1,138 @@
+package engine.board;
+
+public class MagicBitBoards {
+
+    private static final int[][] ROOK_DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+    private static final int[][] BISHOP_DIRECTIONS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+
+    //fixed seed so every run builds the same tables
+    private static final long MAGIC_SEED = 0x9E3779B97F4A7C15L;
+
+    private static final long[] ROOK_MASKS = new long[BoardUtils.NUM_TILES];
+    private static final long[] ROOK_MAGICS = new long[BoardUtils.NUM_TILES];
+    private static final int[] ROOK_SHIFTS = new int[BoardUtils.NUM_TILES];
+    private static final long[][] ROOK_ATTACKS = new long[BoardUtils.NUM_TILES][];
+
+    private static final long[] BISHOP_MASKS = new long[BoardUtils.NUM_TILES];
+    private static final long[] BISHOP_MAGICS = new long[BoardUtils.NUM_TILES];
+    private static final int[] BISHOP_SHIFTS = new int[BoardUtils.NUM_TILES];
+    private static final long[][] BISHOP_ATTACKS = new long[BoardUtils.NUM_TILES][];
+
+    static {
+        final long[] random = {MAGIC_SEED};
+        for(int i = 0; i < BoardUtils.NUM_TILES; i++){
+            initSquare(i, ROOK_DIRECTIONS, ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS, ROOK_ATTACKS, random);
+            initSquare(i, BISHOP_DIRECTIONS, BISHOP_MASKS, BISHOP_MAGICS, BISHOP_SHIFTS, BISHOP_ATTACKS, random);
+        }
+    }
+
+    private MagicBitBoards(){
+        throw new RuntimeException("You cannot instantiate me!");
+    }
+
+    public static long rookAttacks(final int tileCoordinate, final long occupancy){
+        return ROOK_ATTACKS[tileCoordinate][(int)(((occupancy & ROOK_MASKS[tileCoordinate]) *
+                ROOK_MAGICS[tileCoordinate]) >>> ROOK_SHIFTS[tileCoordinate])];
+    }
+
+    public static long bishopAttacks(final int tileCoordinate, final long occupancy){
+        return BISHOP_ATTACKS[tileCoordinate][(int)(((occupancy & BISHOP_MASKS[tileCoordinate]) *
+                BISHOP_MAGICS[tileCoordinate]) >>> BISHOP_SHIFTS[tileCoordinate])];
+    }
+
+    public static long queenAttacks(final int tileCoordinate, final long occupancy){
+        return rookAttacks(tileCoordinate, occupancy) | bishopAttacks(tileCoordinate, occupancy);
+    }
+
+    private static void initSquare(final int tileCoordinate, final int[][] directions, final long[] masks,
+                                   final long[] magics, final int[] shifts, final long[][] attacks, final long[] random){
+        final long mask = calculateBlockerMask(tileCoordinate, directions);
+        final int bits = BitBoard.countTiles(mask);
+        final int size = 1 << bits;
+
+        final long[] occupancies = new long[size];
+        final long[] references = new long[size];
+        long subset = BitBoard.EMPTY;
+        for(int i = 0; i < size; i++){
+            occupancies[i] = subset;
+            references[i] = calculateSlidingAttacks(tileCoordinate, subset, directions);
+            subset = (subset - mask) & mask;
+        }
+
+        final long[] table = new long[size];
+        final int[] epoch = new int[size];
+        for(int attempt = 1; ; attempt++){
+            final long magic = nextSparseLong(random);
+            if(BitBoard.countTiles((mask * magic) & 0xFF00000000000000L) < 6){
+                continue;
+            }
+            boolean collision = false;
+            for(int i = 0; i < size && !collision; i++){
+                final int index = (int)((occupancies[i] * magic) >>> (64 - bits));
+                if(epoch[index] != attempt){
+                    epoch[index] = attempt;
+                    table[index] = references[i];
+                } else if(table[index] != references[i]){
+                    collision = true;
+                }
+            }
+            if(!collision){
+                masks[tileCoordinate] = mask;
+                magics[tileCoordinate] = magic;
+                shifts[tileCoordinate] = 64 - bits;
+                attacks[tileCoordinate] = table;
+                return;
+            }
+        }
+    }
+
+    private static long calculateBlockerMask(final int tileCoordinate, final int[][] directions){
+        long mask = BitBoard.EMPTY;
+        for(final int[] direction : directions){
+            int row = tileCoordinate / BoardUtils.NUM_TILES_PER_ROW + direction[0];
+            int column = tileCoordinate % BoardUtils.NUM_TILES_PER_ROW + direction[1];
+            //the last tile on a ray never blocks anything behind it
+            while(isOnBoard(row + direction[0], column + direction[1])){
+                mask |= BitBoard.tileMask(row * BoardUtils.NUM_TILES_PER_ROW + column);
+                row += direction[0];
+                column += direction[1];
+            }
+        }
+        return mask;
+    }
+
+    private static long calculateSlidingAttacks(final int tileCoordinate, final long occupancy, final int[][] directions){
+        long attacks = BitBoard.EMPTY;
+        for(final int[] direction : directions){
+            int row = tileCoordinate / BoardUtils.NUM_TILES_PER_ROW + direction[0];
+            int column = tileCoordinate % BoardUtils.NUM_TILES_PER_ROW + direction[1];
+            while(isOnBoard(row, column)){
+                final long tile = BitBoard.tileMask(row * BoardUtils.NUM_TILES_PER_ROW + column);
+                attacks |= tile;
+                if((occupancy & tile) != 0){
+                    break;
+                }
+                row += direction[0];
+                column += direction[1];
+            }
+        }
+        return attacks;
+    }
+
+    private static boolean isOnBoard(final int row, final int column){
+        return row >= 0 && row < BoardUtils.NUM_TILES_PER_ROW && column >= 0 && column < BoardUtils.NUM_TILES_PER_ROW;
+    }
+
+    private static long nextSparseLong(final long[] random){
+        return nextLong(random) & nextLong(random) & nextLong(random);
+    }
+
+    private static long nextLong(final long[] random){
+        long x = random[0];
+        x ^= x >>> 12;
+        x ^= x << 25;
+        x ^= x >>> 27;
+        random[0] = x;
+        return x * 2685821657736338717L;
+    }
+}
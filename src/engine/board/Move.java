@@ -1,7 +1,9 @@
 package engine.board;
 
+import engine.Alliance;
 import engine.pieces.Pawn;
 import engine.pieces.Piece;
+import engine.pieces.Piece.PieceType;
 import engine.pieces.Rook;
 
 public abstract class Move {
@@ -64,6 +66,11 @@ public abstract class Move {
         return null;
     }
 
+    public String getCoordinateNotation(){
+        return BoardUtils.getPositionAtCoordinate(getCurrentCoordinate()) +
+                BoardUtils.getPositionAtCoordinate(this.destinationCoordinate);
+    }
+
     public Board execute() {
 
         final Board.Builder builder = new Board.Builder();
@@ -81,9 +88,34 @@ public abstract class Move {
 
         builder.setPiece(this.movedPiece.movePiece(this));
         builder.setMoveMoker(this.board.currentPlayer().getOpponent().getAlliance());
+        builder.setZobristKey(calculateZobristKey());
         return builder.build();
     }
 
+    long calculateZobristKey(){
+        final int currentCoordinate = getCurrentCoordinate();
+        final Piece placedPiece = this instanceof PawnPromotion ? ((PawnPromotion) this).getPromotionPiece() : this.movedPiece;
+        long key = this.board.zobristKey() ^ Zobrist.pieceKey(this.movedPiece) ^
+                Zobrist.pieceKey(BitBoard.pieceSetIndex(placedPiece.getPieceAlliance(), placedPiece.getPieceType()),
+                        this.destinationCoordinate);
+        if(getAttackedPiece() != null){
+            key ^= Zobrist.pieceKey(getAttackedPiece());
+        }
+        if(isCastlingMove()){
+            final CastleMove castleMove = (CastleMove) this;
+            final int rookCode = BitBoard.pieceSetIndex(castleMove.castleRook.getPieceAlliance(), PieceType.ROOK);
+            key ^= Zobrist.pieceKey(rookCode, castleMove.castleRookStart) ^ Zobrist.pieceKey(rookCode, castleMove.castleRookDestinaton);
+        }
+        final int castlingRights = this.board.getCastlingRights();
+        final int enPassantCoordinate = this instanceof PawnJump ? (currentCoordinate + this.destinationCoordinate) / 2 : -1;
+        return key ^ Zobrist.sideToMoveKey(Alliance.BLACK) ^
+                Zobrist.castlingKey(castlingRights) ^
+                Zobrist.castlingKey(castlingRights & BoardUtils.CASTLING_RIGHTS_MASKS[currentCoordinate] &
+                        BoardUtils.CASTLING_RIGHTS_MASKS[this.destinationCoordinate]) ^
+                Zobrist.enPassantKey(this.board.getEnPassantCoordinate()) ^
+                Zobrist.enPassantKey(enPassantCoordinate);
+    }
+
     public static final class MajorMove extends Move{
 
         public MajorMove(final Board board, final Piece movedPiece, final int destinationCoordinate){
@@ -118,11 +150,6 @@ public abstract class Move {
             return super.equals(otherAttackMove) && getAttackedPiece().equals(otherAttackMove.getAttackedPiece());
         }
 
-        @Override
-        public Board execute() {
-            return null;
-        }
-
         @Override
         public boolean isAttack(){
             return true;
@@ -136,28 +163,47 @@ public abstract class Move {
 
     public static final class PawnMove extends Move{
 
-        private PawnMove(final Board board, final Piece movedPiece, final int destinationCoordinate) {
+        public PawnMove(final Board board, final Piece movedPiece, final int destinationCoordinate) {
             super(board, movedPiece, destinationCoordinate);
         }
     }
 
     public static class PawnAttackMove extends AttackMove{
 
-        private PawnAttackMove(final Board board, final Piece movedPiece, final int destinationCoordinate, final Piece attackedPiece) {
+        public PawnAttackMove(final Board board, final Piece movedPiece, final int destinationCoordinate, final Piece attackedPiece) {
             super(board, movedPiece, destinationCoordinate, attackedPiece);
         }
     }
 
     public static final class PawnEnPassantAttackMove extends PawnAttackMove{
 
-        private PawnEnPassantAttackMove(final Board board, final Piece movedPiece, final int destinationCoordinate, final Piece attackedPiece) {
+        public PawnEnPassantAttackMove(final Board board, final Piece movedPiece, final int destinationCoordinate, final Piece attackedPiece) {
             super(board, movedPiece, destinationCoordinate, attackedPiece);
         }
+
+        @Override
+        public Board execute(){
+            final Board.Builder builder = new Board.Builder();
+            for(final Piece piece : this.board.currentPlayer().getActivePieces()){
+                if(!this.movedPiece.equals(piece)){
+                    builder.setPiece(piece);
+                }
+            }
+            for(final Piece piece : this.board.currentPlayer().getOpponent().getActivePieces()){
+                if(!this.attackedPiece.equals(piece)){
+                    builder.setPiece(piece);
+                }
+            }
+            builder.setPiece(this.movedPiece.movePiece(this));
+            builder.setMoveMoker(this.board.currentPlayer().getOpponent().getAlliance());
+            builder.setZobristKey(calculateZobristKey());
+            return builder.build();
+        }
     }
 
     public static final class PawnJump extends Move{
 
-        private PawnJump(final Board board, final Piece movedPiece, final int destinationCoordinate) {
+        public PawnJump(final Board board, final Piece movedPiece, final int destinationCoordinate) {
             super(board, movedPiece, destinationCoordinate);
         }
 
@@ -176,6 +222,73 @@ public abstract class Move {
             builder.setPiece(movedPawn);
             builder.setEnPassantPawn(movedPawn);
             builder.setMoveMoker(this.board.currentPlayer().getOpponent().getAlliance());
+            builder.setZobristKey(calculateZobristKey());
+            return builder.build();
+        }
+    }
+
+    public static final class PawnPromotion extends Move{
+
+        final Move decoratedMove;
+        final Piece promotionPiece;
+
+        public PawnPromotion(final Move decoratedMove, final PieceType promotionType) {
+            super(decoratedMove.board, decoratedMove.getMovedPiece(), decoratedMove.getDestinationCoordinate());
+            this.decoratedMove = decoratedMove;
+            this.promotionPiece = promotionType.createPiece(this.destinationCoordinate, this.movedPiece.getPieceAlliance(), false);
+        }
+
+        @Override
+        public int hashCode(){
+            return this.decoratedMove.hashCode() + 31 * this.promotionPiece.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object other){
+            if(this == other){
+                return true;
+            }
+            if(!(other instanceof PawnPromotion)){
+                return false;
+            }
+            final PawnPromotion otherPromotion = (PawnPromotion) other;
+            return this.decoratedMove.equals(otherPromotion.decoratedMove) &&
+                    getPromotionPiece().getPieceType() == otherPromotion.getPromotionPiece().getPieceType();
+        }
+
+        public Piece getPromotionPiece(){
+            return this.promotionPiece;
+        }
+
+        @Override
+        public String getCoordinateNotation(){
+            return super.getCoordinateNotation() + this.promotionPiece.toString().toLowerCase();
+        }
+
+        @Override
+        public boolean isAttack(){
+            return this.decoratedMove.isAttack();
+        }
+
+        @Override
+        public Piece getAttackedPiece(){
+            return this.decoratedMove.getAttackedPiece();
+        }
+
+        @Override
+        public Board execute(){
+            final Board.Builder builder = new Board.Builder();
+            for(final Piece piece : this.board.currentPlayer().getActivePieces()){
+                if(!this.movedPiece.equals(piece)){
+                    builder.setPiece(piece);
+                }
+            }
+            for(final Piece piece : this.board.currentPlayer().getOpponent().getActivePieces()){
+                builder.setPiece(piece);
+            }
+            builder.setPiece(this.promotionPiece);
+            builder.setMoveMoker(this.board.currentPlayer().getOpponent().getAlliance());
+            builder.setZobristKey(calculateZobristKey());
             return builder.build();
         }
     }
@@ -215,8 +328,9 @@ public abstract class Move {
                 builder.setPiece(piece);
             }
             builder.setPiece(this.movedPiece.movePiece(this));
-            builder.setPiece(new Rook(this.castleRookDestinaton, this.castleRook.getPieceAlliance()));
+            builder.setPiece(new Rook(this.castleRookDestinaton, this.castleRook.getPieceAlliance(), false));
             builder.setMoveMoker(this.board.currentPlayer().getOpponent().getAlliance());
+            builder.setZobristKey(calculateZobristKey());
             return builder.build();
         }
     }
@@ -266,12 +380,13 @@ public abstract class Move {
         }
 
         public static Move createMove(final Board board, final int currentCoordinate, final int destinationCoordinate){
-            for(final Move move : board.getAllLegalMoves()){
-                if(move.getCurrentCoordinate() == currentCoordinate && move.getDestinationCoordinate() == destinationCoordinate){
-                    return move;
-                }
-            }
-            return NULL_MOVE;
+            return createMove(board, currentCoordinate, destinationCoordinate, null);
+        }
+
+        //only the side to move's moves are considered, a null promotion type promotes to a queen
+        public static Move createMove(final Board board, final int currentCoordinate, final int destinationCoordinate,
+                                      final PieceType promotionType){
+            return board.findMove(currentCoordinate, destinationCoordinate, promotionType);
         }
     }
 }
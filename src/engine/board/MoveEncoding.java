@@ -0,0 +1,161 @@
+package engine.board;
+
+import engine.board.Move.AttackMove;
+import engine.board.Move.KingSideCastleMove;
+import engine.board.Move.MajorMove;
+import engine.board.Move.PawnAttackMove;
+import engine.board.Move.PawnEnPassantAttackMove;
+import engine.board.Move.PawnJump;
+import engine.board.Move.PawnMove;
+import engine.board.Move.PawnPromotion;
+import engine.board.Move.QueenSideCastleMove;
+import engine.pieces.Piece;
+import engine.pieces.Piece.PieceType;
+import engine.pieces.Rook;
+
+public final class MoveEncoding {
+
+    //never produced for a real move since origin and destination always differ
+    public static final int NONE = 0;
+
+    public static final int CAPTURE = 1;
+    public static final int PAWN_JUMP = 2;
+    public static final int EN_PASSANT = 4;
+    public static final int CASTLING = 8;
+
+    private static final int FROM_SHIFT = 0;
+    private static final int TO_SHIFT = 6;
+    private static final int FLAGS_SHIFT = 12;
+    private static final int PROMOTION_SHIFT = 16;
+    private static final int CAPTURED_SHIFT = 20;
+    private static final int MOVED_SHIFT = 24;
+
+    private static final int TILE_MASK = 0x3F;
+    private static final int NIBBLE_MASK = 0xF;
+
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private MoveEncoding(){
+        throw new RuntimeException("You cannot instantiate me!");
+    }
+
+    //from, destination, flags, promotion type, captured piece code + 1 and moved piece code
+    public static int create(final int from, final int to, final int movedCode, final int capturedCode, final int flags,
+                             final PieceType promotionType){
+        return (from << FROM_SHIFT) |
+                (to << TO_SHIFT) |
+                (flags << FLAGS_SHIFT) |
+                ((promotionType == null ? 0 : promotionType.ordinal()) << PROMOTION_SHIFT) |
+                ((capturedCode + 1) << CAPTURED_SHIFT) |
+                (movedCode << MOVED_SHIFT);
+    }
+
+    public static int encode(final Move move){
+        final Piece movedPiece = move.getMovedPiece();
+        final Piece attackedPiece = move.getAttackedPiece();
+        int flags = attackedPiece != null ? CAPTURE : 0;
+        if(move instanceof PawnEnPassantAttackMove){
+            flags |= EN_PASSANT;
+        } else if(move instanceof PawnJump){
+            flags |= PAWN_JUMP;
+        } else if(move.isCastlingMove()){
+            flags |= CASTLING;
+        }
+        return create(move.getCurrentCoordinate(), move.getDestinationCoordinate(),
+                BitBoard.pieceSetIndex(movedPiece.getPieceAlliance(), movedPiece.getPieceType()),
+                attackedPiece == null ? SearchBoard.NO_PIECE :
+                        BitBoard.pieceSetIndex(attackedPiece.getPieceAlliance(), attackedPiece.getPieceType()),
+                flags,
+                move instanceof PawnPromotion ? ((PawnPromotion) move).getPromotionPiece().getPieceType() : null);
+    }
+
+    public static int getFrom(final int move){
+        return (move >>> FROM_SHIFT) & TILE_MASK;
+    }
+
+    public static int getTo(final int move){
+        return (move >>> TO_SHIFT) & TILE_MASK;
+    }
+
+    public static int getFlags(final int move){
+        return (move >>> FLAGS_SHIFT) & NIBBLE_MASK;
+    }
+
+    public static int getMovedPiece(final int move){
+        return (move >>> MOVED_SHIFT) & NIBBLE_MASK;
+    }
+
+    public static int getCapturedPiece(final int move){
+        return ((move >>> CAPTURED_SHIFT) & NIBBLE_MASK) - 1;
+    }
+
+    public static PieceType getPromotionType(final int move){
+        final int promotion = (move >>> PROMOTION_SHIFT) & NIBBLE_MASK;
+        return promotion == 0 ? null : PIECE_TYPES[promotion];
+    }
+
+    public static boolean isCapture(final int move){
+        return (getFlags(move) & CAPTURE) != 0;
+    }
+
+    public static boolean isPromotion(final int move){
+        return ((move >>> PROMOTION_SHIFT) & NIBBLE_MASK) != 0;
+    }
+
+    public static boolean isEnPassant(final int move){
+        return (getFlags(move) & EN_PASSANT) != 0;
+    }
+
+    public static boolean isPawnJump(final int move){
+        return (getFlags(move) & PAWN_JUMP) != 0;
+    }
+
+    public static boolean isCastling(final int move){
+        return (getFlags(move) & CASTLING) != 0;
+    }
+
+    //castling rooks always start in a corner and end next to the king's destination
+    static int getCastleRookStart(final int move){
+        return getTo(move) > getFrom(move) ? getFrom(move) + 3 : getFrom(move) - 4;
+    }
+
+    static int getCastleRookDestination(final int move){
+        return (getFrom(move) + getTo(move)) / 2;
+    }
+
+    //builds the Move object for GUI and notation code, the board must be the one the move was generated on
+    public static Move toMove(final Board board, final int move){
+        final int from = getFrom(move);
+        final int to = getTo(move);
+        final Piece movedPiece = board.getPiece(from);
+        if(movedPiece == null){
+            throw new RuntimeException("No piece on " + BoardUtils.getPositionAtCoordinate(from));
+        }
+        final Move view;
+        if(isCastling(move)){
+            final int rookStart = getCastleRookStart(move);
+            final Rook castleRook = (Rook) board.getPiece(rookStart);
+            view = to > from ?
+                    new KingSideCastleMove(board, movedPiece, to, castleRook, rookStart, getCastleRookDestination(move)) :
+                    new QueenSideCastleMove(board, movedPiece, to, castleRook, rookStart, getCastleRookDestination(move));
+        } else if(isEnPassant(move)){
+            view = new PawnEnPassantAttackMove(board, movedPiece, to,
+                    board.getPiece(to - movedPiece.getPieceAlliance().getDirection() * BoardUtils.NUM_TILES_PER_ROW));
+        } else if(isPawnJump(move)){
+            view = new PawnJump(board, movedPiece, to);
+        } else if(movedPiece.getPieceType() == PieceType.PAWN){
+            view = isCapture(move) ? new PawnAttackMove(board, movedPiece, to, board.getPiece(to)) :
+                    new PawnMove(board, movedPiece, to);
+        } else {
+            view = isCapture(move) ? new AttackMove(board, movedPiece, to, board.getPiece(to)) :
+                    new MajorMove(board, movedPiece, to);
+        }
+        return isPromotion(move) ? new PawnPromotion(view, getPromotionType(move)) : view;
+    }
+
+    public static String toString(final int move){
+        final PieceType promotionType = getPromotionType(move);
+        return BoardUtils.getPositionAtCoordinate(getFrom(move)) + BoardUtils.getPositionAtCoordinate(getTo(move)) +
+                (promotionType == null ? "" : promotionType.toString().toLowerCase());
+    }
+}
@@ -0,0 +1,252 @@
+package engine.board;
+
+import engine.Alliance;
+import engine.pieces.Piece.PieceType;
+
+public final class MoveGenerator {
+
+    //no legal chess position has more moves than this
+    public static final int MAX_MOVES = 256;
+
+    private static final PieceType[] PROMOTION_TYPES = {PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP, PieceType.KNIGHT};
+    private static final PieceType[] PIECE_TYPES = {PieceType.KNIGHT, PieceType.BISHOP, PieceType.ROOK, PieceType.QUEEN, PieceType.KING};
+
+    //white castles first, then black, king side before queen side
+    private static final int[] CASTLE_RIGHTS = {BoardUtils.WHITE_KING_SIDE_CASTLE, BoardUtils.WHITE_QUEEN_SIDE_CASTLE,
+            BoardUtils.BLACK_KING_SIDE_CASTLE, BoardUtils.BLACK_QUEEN_SIDE_CASTLE};
+    private static final int[] CASTLE_KING_DESTINATIONS = {62, 58, 6, 2};
+    private static final long[] CASTLE_EMPTY_TILES = {
+            BitBoard.tileMask(61) | BitBoard.tileMask(62),
+            BitBoard.tileMask(57) | BitBoard.tileMask(58) | BitBoard.tileMask(59),
+            BitBoard.tileMask(5) | BitBoard.tileMask(6),
+            BitBoard.tileMask(1) | BitBoard.tileMask(2) | BitBoard.tileMask(3)};
+
+    private MoveGenerator(){
+        throw new RuntimeException("You cannot instantiate me!");
+    }
+
+    //pseudo legal moves, the caller rejects the ones leaving its own king attacked
+    public static int generateMoves(final SearchBoard board, final int[] moves, final int offset){
+        return generateQuiets(board, moves, generateCaptures(board, moves, offset));
+    }
+
+    //captures, en passant and every promotion
+    public static int generateCaptures(final SearchBoard board, final int[] moves, final int offset){
+        final int count = generatePawnCaptures(board, moves, offset);
+        return generatePieceMoves(board, moves, count, board.getOccupancy(board.getSideToMove().getOpposite()));
+    }
+
+    public static int generateQuiets(final SearchBoard board, final int[] moves, final int offset){
+        int count = generatePawnPushes(board, moves, offset);
+        count = generatePieceMoves(board, moves, count, ~board.getOccupancy());
+        return generateCastles(board, moves, count);
+    }
+
+    //fills the buffer with legal moves only by making and unmaking every candidate
+    public static int generateLegalMoves(final SearchBoard board, final int[] moves){
+        final int count = generateMoves(board, moves, 0);
+        final Alliance us = board.getSideToMove();
+        int legalCount = 0;
+        for(int i = 0; i < count; i++){
+            board.makeMove(moves[i]);
+            if(!board.isKingAttacked(us)){
+                moves[legalCount++] = moves[i];
+            }
+            board.unmakeMove();
+        }
+        return legalCount;
+    }
+
+    //whether a move taken from the transposition table or the killer slots can be played here
+    public static boolean isPseudoLegal(final SearchBoard board, final int move){
+        if(move == MoveEncoding.NONE){
+            return false;
+        }
+        final Alliance us = board.getSideToMove();
+        final int from = MoveEncoding.getFrom(move);
+        final int to = MoveEncoding.getTo(move);
+        final int movedCode = MoveEncoding.getMovedPiece(move);
+        if(board.getPieceCode(from) != movedCode || (board.getOccupancy(us) & BitBoard.tileMask(from)) == BitBoard.EMPTY){
+            return false;
+        }
+        if(MoveEncoding.isCastling(move)){
+            final int firstCastle = us.isWhite() ? 0 : 2;
+            for(int castle = firstCastle; castle < firstCastle + 2; castle++){
+                if(from == kingStart(us) && to == CASTLE_KING_DESTINATIONS[castle]){
+                    return canCastle(board, castle);
+                }
+            }
+            return false;
+        }
+        final PieceType pieceType = BitBoard.pieceTypeOf(movedCode);
+        if(MoveEncoding.isEnPassant(move)){
+            return pieceType == PieceType.PAWN && to == board.getEnPassantCoordinate() &&
+                    (BoardUtils.PAWN_ATTACKS[us.ordinal()][from] & BitBoard.tileMask(to)) != BitBoard.EMPTY;
+        }
+        final int capturedCode = MoveEncoding.getCapturedPiece(move);
+        if(board.getPieceCode(to) != capturedCode ||
+                (capturedCode != SearchBoard.NO_PIECE && (board.getOccupancy(us) & BitBoard.tileMask(to)) != BitBoard.EMPTY)){
+            return false;
+        }
+        final long toTile = BitBoard.tileMask(to);
+        if(pieceType != PieceType.PAWN){
+            return !MoveEncoding.isPromotion(move) && !MoveEncoding.isPawnJump(move) &&
+                    (attacks(pieceType, from, board.getOccupancy()) & toTile) != BitBoard.EMPTY;
+        }
+        if(isPromotionTile(to) != MoveEncoding.isPromotion(move)){
+            return false;
+        }
+        if(capturedCode != SearchBoard.NO_PIECE){
+            return (BoardUtils.PAWN_ATTACKS[us.ordinal()][from] & toTile) != BitBoard.EMPTY;
+        }
+        final long push = BoardUtils.PAWN_PUSHES[us.ordinal()][from] & ~board.getOccupancy();
+        if(MoveEncoding.isPawnJump(move)){
+            return push != BitBoard.EMPTY && (BoardUtils.PAWN_JUMPS[us.ordinal()][from] & toTile) != BitBoard.EMPTY;
+        }
+        return (push & toTile) != BitBoard.EMPTY;
+    }
+
+    private static int generatePieceMoves(final SearchBoard board, final int[] moves, int count, final long targets){
+        final long occupancy = board.getOccupancy();
+        for(final PieceType pieceType : PIECE_TYPES){
+            count = addPieceMoves(board, moves, count, pieceType, targets, occupancy);
+        }
+        return count;
+    }
+
+    private static int addPieceMoves(final SearchBoard board, final int[] moves, int count, final PieceType pieceType,
+                                     final long targets, final long occupancy){
+        final int movedCode = BitBoard.pieceSetIndex(board.getSideToMove(), pieceType);
+        long pieces = board.getPieces(board.getSideToMove(), pieceType);
+        while(pieces != BitBoard.EMPTY){
+            final int from = BitBoard.firstTile(pieces);
+            long destinations = attacks(pieceType, from, occupancy) & targets;
+            while(destinations != BitBoard.EMPTY){
+                final int to = BitBoard.firstTile(destinations);
+                final int capturedCode = board.getPieceCode(to);
+                moves[count++] = MoveEncoding.create(from, to, movedCode, capturedCode,
+                        capturedCode == SearchBoard.NO_PIECE ? 0 : MoveEncoding.CAPTURE, null);
+                destinations = BitBoard.clearFirstTile(destinations);
+            }
+            pieces = BitBoard.clearFirstTile(pieces);
+        }
+        return count;
+    }
+
+    private static long attacks(final PieceType pieceType, final int from, final long occupancy){
+        switch (pieceType){
+            case KNIGHT:
+                return BoardUtils.KNIGHT_ATTACKS[from];
+            case BISHOP:
+                return MagicBitBoards.bishopAttacks(from, occupancy);
+            case ROOK:
+                return MagicBitBoards.rookAttacks(from, occupancy);
+            case QUEEN:
+                return MagicBitBoards.queenAttacks(from, occupancy);
+            case KING:
+                return BoardUtils.KING_ATTACKS[from];
+            default:
+                throw new RuntimeException("Not a piece move: " + pieceType);
+        }
+    }
+
+    private static int generatePawnCaptures(final SearchBoard board, final int[] moves, int count){
+        final Alliance us = board.getSideToMove();
+        final int movedCode = BitBoard.pieceSetIndex(us, PieceType.PAWN);
+        final long enemies = board.getOccupancy(us.getOpposite());
+        final long empty = ~board.getOccupancy();
+        long pawns = board.getPieces(us, PieceType.PAWN);
+        while(pawns != BitBoard.EMPTY){
+            final int from = BitBoard.firstTile(pawns);
+            long captures = BoardUtils.PAWN_ATTACKS[us.ordinal()][from] & enemies;
+            while(captures != BitBoard.EMPTY){
+                final int to = BitBoard.firstTile(captures);
+                count = addPawnMove(moves, count, from, to, movedCode, board.getPieceCode(to), MoveEncoding.CAPTURE);
+                captures = BitBoard.clearFirstTile(captures);
+            }
+            //quiet promotions are searched with the captures
+            final long promotionPush = BoardUtils.PAWN_PUSHES[us.ordinal()][from] & empty;
+            if(promotionPush != BitBoard.EMPTY && isPromotionTile(BitBoard.firstTile(promotionPush))){
+                count = addPawnMove(moves, count, from, BitBoard.firstTile(promotionPush), movedCode, SearchBoard.NO_PIECE, 0);
+            }
+            pawns = BitBoard.clearFirstTile(pawns);
+        }
+        final int enPassantCoordinate = board.getEnPassantCoordinate();
+        if(enPassantCoordinate != SearchBoard.NO_TILE){
+            final int capturedCode = BitBoard.pieceSetIndex(us.getOpposite(), PieceType.PAWN);
+            long attackers = BoardUtils.PAWN_ATTACKS[us.getOpposite().ordinal()][enPassantCoordinate] &
+                    board.getPieces(us, PieceType.PAWN);
+            while(attackers != BitBoard.EMPTY){
+                moves[count++] = MoveEncoding.create(BitBoard.firstTile(attackers), enPassantCoordinate, movedCode,
+                        capturedCode, MoveEncoding.CAPTURE | MoveEncoding.EN_PASSANT, null);
+                attackers = BitBoard.clearFirstTile(attackers);
+            }
+        }
+        return count;
+    }
+
+    private static int generatePawnPushes(final SearchBoard board, final int[] moves, int count){
+        final Alliance us = board.getSideToMove();
+        final int movedCode = BitBoard.pieceSetIndex(us, PieceType.PAWN);
+        final long empty = ~board.getOccupancy();
+        long pawns = board.getPieces(us, PieceType.PAWN);
+        while(pawns != BitBoard.EMPTY){
+            final int from = BitBoard.firstTile(pawns);
+            final long push = BoardUtils.PAWN_PUSHES[us.ordinal()][from] & empty;
+            if(push != BitBoard.EMPTY && !isPromotionTile(BitBoard.firstTile(push))){
+                moves[count++] = MoveEncoding.create(from, BitBoard.firstTile(push), movedCode, SearchBoard.NO_PIECE, 0, null);
+                final long jump = BoardUtils.PAWN_JUMPS[us.ordinal()][from] & empty;
+                if(jump != BitBoard.EMPTY){
+                    moves[count++] = MoveEncoding.create(from, BitBoard.firstTile(jump), movedCode, SearchBoard.NO_PIECE,
+                            MoveEncoding.PAWN_JUMP, null);
+                }
+            }
+            pawns = BitBoard.clearFirstTile(pawns);
+        }
+        return count;
+    }
+
+    private static int addPawnMove(final int[] moves, int count, final int from, final int to, final int movedCode,
+                                   final int capturedCode, final int flags){
+        if(isPromotionTile(to)){
+            for(final PieceType promotionType : PROMOTION_TYPES){
+                moves[count++] = MoveEncoding.create(from, to, movedCode, capturedCode, flags, promotionType);
+            }
+        } else {
+            moves[count++] = MoveEncoding.create(from, to, movedCode, capturedCode, flags, null);
+        }
+        return count;
+    }
+
+    private static boolean isPromotionTile(final int tileCoordinate){
+        return BoardUtils.EIGHTH_RANK[tileCoordinate] || BoardUtils.FIRST_RANK[tileCoordinate];
+    }
+
+    private static int generateCastles(final SearchBoard board, final int[] moves, int count){
+        final int firstCastle = board.getSideToMove().isWhite() ? 0 : 2;
+        for(int castle = firstCastle; castle < firstCastle + 2; castle++){
+            if(canCastle(board, castle)){
+                final int kingFrom = kingStart(board.getSideToMove());
+                moves[count++] = MoveEncoding.create(kingFrom, CASTLE_KING_DESTINATIONS[castle], board.getPieceCode(kingFrom),
+                        SearchBoard.NO_PIECE, MoveEncoding.CASTLING, null);
+            }
+        }
+        return count;
+    }
+
+    //the king may not castle out of, through or into check
+    private static boolean canCastle(final SearchBoard board, final int castle){
+        final Alliance them = board.getSideToMove().getOpposite();
+        final int kingFrom = kingStart(board.getSideToMove());
+        final int kingTo = CASTLE_KING_DESTINATIONS[castle];
+        return (board.getCastlingRights() & CASTLE_RIGHTS[castle]) != 0 &&
+                (board.getOccupancy() & CASTLE_EMPTY_TILES[castle]) == BitBoard.EMPTY &&
+                board.getAttackers(kingFrom, them) == BitBoard.EMPTY &&
+                board.getAttackers((kingFrom + kingTo) / 2, them) == BitBoard.EMPTY &&
+                board.getAttackers(kingTo, them) == BitBoard.EMPTY;
+    }
+
+    private static int kingStart(final Alliance alliance){
+        return alliance.isWhite() ? 60 : 4;
+    }
+}
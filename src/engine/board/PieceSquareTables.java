@@ -0,0 +1,136 @@
+package engine.board;
+
+import engine.Alliance;
+import engine.pieces.Piece.PieceType;
+
+public final class PieceSquareTables {
+
+    //knights and bishops count 1, rooks 2 and queens 4 towards the middlegame
+    public static final int MAX_PHASE = 24;
+
+    private static final int[] PHASE_WEIGHTS = {0, 1, 1, 2, 4, 0};
+
+    private static final int[] ENDGAME_PIECE_VALUES = {120, 300, 320, 520, 940, 0};
+
+    //from white's point of view, tile 0 is a8 just like the board
+    private static final int[] PAWN_TABLE = {
+             0,   0,   0,   0,   0,   0,   0,   0,
+            50,  50,  50,  50,  50,  50,  50,  50,
+            10,  10,  20,  30,  30,  20,  10,  10,
+             5,   5,  10,  25,  25,  10,   5,   5,
+             0,   0,   0,  20,  20,   0,   0,   0,
+             5,  -5, -10,   0,   0, -10,  -5,   5,
+             5,  10,  10, -20, -20,  10,  10,   5,
+             0,   0,   0,   0,   0,   0,   0,   0};
+
+    private static final int[] PAWN_ENDGAME_TABLE = {
+             0,   0,   0,   0,   0,   0,   0,   0,
+            80,  80,  80,  80,  80,  80,  80,  80,
+            50,  50,  50,  50,  50,  50,  50,  50,
+            30,  30,  30,  30,  30,  30,  30,  30,
+            15,  15,  15,  15,  15,  15,  15,  15,
+             5,   5,   5,   5,   5,   5,   5,   5,
+             0,   0,   0,   0,   0,   0,   0,   0,
+             0,   0,   0,   0,   0,   0,   0,   0};
+
+    private static final int[] KNIGHT_TABLE = {
+           -50, -40, -30, -30, -30, -30, -40, -50,
+           -40, -20,   0,   0,   0,   0, -20, -40,
+           -30,   0,  10,  15,  15,  10,   0, -30,
+           -30,   5,  15,  20,  20,  15,   5, -30,
+           -30,   0,  15,  20,  20,  15,   0, -30,
+           -30,   5,  10,  15,  15,  10,   5, -30,
+           -40, -20,   0,   5,   5,   0, -20, -40,
+           -50, -40, -30, -30, -30, -30, -40, -50};
+
+    private static final int[] BISHOP_TABLE = {
+           -20, -10, -10, -10, -10, -10, -10, -20,
+           -10,   0,   0,   0,   0,   0,   0, -10,
+           -10,   0,   5,  10,  10,   5,   0, -10,
+           -10,   5,   5,  10,  10,   5,   5, -10,
+           -10,   0,  10,  10,  10,  10,   0, -10,
+           -10,  10,  10,  10,  10,  10,  10, -10,
+           -10,   5,   0,   0,   0,   0,   5, -10,
+           -20, -10, -10, -10, -10, -10, -10, -20};
+
+    private static final int[] ROOK_TABLE = {
+             0,   0,   0,   0,   0,   0,   0,   0,
+             5,  10,  10,  10,  10,  10,  10,   5,
+            -5,   0,   0,   0,   0,   0,   0,  -5,
+            -5,   0,   0,   0,   0,   0,   0,  -5,
+            -5,   0,   0,   0,   0,   0,   0,  -5,
+            -5,   0,   0,   0,   0,   0,   0,  -5,
+            -5,   0,   0,   0,   0,   0,   0,  -5,
+             0,   0,   0,   5,   5,   0,   0,   0};
+
+    private static final int[] QUEEN_TABLE = {
+           -20, -10, -10,  -5,  -5, -10, -10, -20,
+           -10,   0,   0,   0,   0,   0,   0, -10,
+           -10,   0,   5,   5,   5,   5,   0, -10,
+            -5,   0,   5,   5,   5,   5,   0,  -5,
+             0,   0,   5,   5,   5,   5,   0,  -5,
+           -10,   5,   5,   5,   5,   5,   0, -10,
+           -10,   0,   5,   0,   0,   0,   0, -10,
+           -20, -10, -10,  -5,  -5, -10, -10, -20};
+
+    private static final int[] KING_TABLE = {
+           -30, -40, -40, -50, -50, -40, -40, -30,
+           -30, -40, -40, -50, -50, -40, -40, -30,
+           -30, -40, -40, -50, -50, -40, -40, -30,
+           -30, -40, -40, -50, -50, -40, -40, -30,
+           -20, -30, -30, -40, -40, -30, -30, -20,
+           -10, -20, -20, -20, -20, -20, -20, -10,
+            20,  20,   0,   0,   0,   0,  20,  20,
+            20,  30,  10,   0,   0,  10,  30,  20};
+
+    private static final int[] KING_ENDGAME_TABLE = {
+           -50, -40, -30, -20, -20, -30, -40, -50,
+           -30, -20, -10,   0,   0, -10, -20, -30,
+           -30, -10,  20,  30,  30,  20, -10, -30,
+           -30, -10,  30,  40,  40,  30, -10, -30,
+           -30, -10,  30,  40,  40,  30, -10, -30,
+           -30, -10,  20,  30,  30,  20, -10, -30,
+           -30, -30,   0,   0,   0,   0, -30, -30,
+           -50, -30, -30, -30, -30, -30, -30, -50};
+
+    private static final int[][] MIDDLEGAME_TABLES = {PAWN_TABLE, KNIGHT_TABLE, BISHOP_TABLE, ROOK_TABLE, QUEEN_TABLE, KING_TABLE};
+    private static final int[][] ENDGAME_TABLES = {PAWN_ENDGAME_TABLE, KNIGHT_TABLE, BISHOP_TABLE, ROOK_TABLE, QUEEN_TABLE, KING_ENDGAME_TABLE};
+
+    //material plus placement per piece code and tile, already negated for black
+    private static final int[][] MIDDLEGAME_SCORES = initScores(MIDDLEGAME_TABLES, true);
+    private static final int[][] ENDGAME_SCORES = initScores(ENDGAME_TABLES, false);
+
+    private PieceSquareTables(){
+        throw new RuntimeException("You cannot instantiate me!");
+    }
+
+    public static int middlegameScore(final int pieceCode, final int tileCoordinate){
+        return MIDDLEGAME_SCORES[pieceCode][tileCoordinate];
+    }
+
+    public static int endgameScore(final int pieceCode, final int tileCoordinate){
+        return ENDGAME_SCORES[pieceCode][tileCoordinate];
+    }
+
+    public static int phaseWeight(final int pieceCode){
+        return PHASE_WEIGHTS[BitBoard.pieceTypeOf(pieceCode).ordinal()];
+    }
+
+    private static int[][] initScores(final int[][] tables, final boolean middlegame){
+        final int[][] scores = new int[Alliance.values().length * PieceType.values().length][BoardUtils.NUM_TILES];
+        for(final Alliance alliance : Alliance.values()){
+            for(final PieceType pieceType : PieceType.values()){
+                final int pieceCode = BitBoard.pieceSetIndex(alliance, pieceType);
+                final int pieceValue = pieceType.isKing() ? 0 :
+                        middlegame ? pieceType.getPieceValue() : ENDGAME_PIECE_VALUES[pieceType.ordinal()];
+                for(int i = 0; i < BoardUtils.NUM_TILES; i++){
+                    //black reads the table upside down
+                    final int tableIndex = alliance.isWhite() ? i : i ^ (BoardUtils.NUM_TILES - BoardUtils.NUM_TILES_PER_ROW);
+                    final int score = pieceValue + tables[pieceType.ordinal()][tableIndex];
+                    scores[pieceCode][i] = alliance.isWhite() ? score : -score;
+                }
+            }
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,305 @@
+package engine.board;
+
+import engine.Alliance;
+import engine.pieces.Pawn;
+import engine.pieces.Piece;
+import engine.pieces.Piece.PieceType;
+
+import java.util.Arrays;
+
+public final class SearchBoard {
+
+    public static final int NO_PIECE = -1;
+    public static final int NO_TILE = -1;
+
+    private static final int INITIAL_STACK_SIZE = 128;
+
+    private static final int FROM_SHIFT = 0;
+    private static final int TO_SHIFT = 6;
+    private static final int MOVED_SHIFT = 12;
+    private static final int CAPTURED_SHIFT = 16;
+    private static final int CAPTURE_TILE_SHIFT = 20;
+    private static final int ROOK_FROM_SHIFT = 26;
+    private static final int ROOK_TO_SHIFT = 33;
+    private static final int CASTLING_SHIFT = 40;
+    private static final int EN_PASSANT_SHIFT = 44;
+
+    private final long[] pieceSets;
+    private final long[] occupancy;
+    private final int[] mailbox;
+    private Alliance sideToMove;
+    private int castlingRights;
+    private int enPassantCoordinate;
+    private long zobristKey;
+    private long pawnKey;
+    private int middlegameScore;
+    private int endgameScore;
+    private int gamePhase;
+
+    private PieceListener pieceListener;
+
+    private long[] undoStack;
+    private long[] keyStack;
+    private int undoCount;
+
+    public SearchBoard(final Board board){
+        this.pieceSets = new long[Alliance.values().length * PieceType.values().length];
+        this.occupancy = new long[Alliance.values().length];
+        this.mailbox = new int[BoardUtils.NUM_TILES];
+        Arrays.fill(this.mailbox, NO_PIECE);
+        for(int i = 0; i < BoardUtils.NUM_TILES; i++){
+            final Piece piece = board.getPiece(i);
+            if(piece != null){
+                putPiece(i, BitBoard.pieceSetIndex(piece.getPieceAlliance(), piece.getPieceType()));
+            }
+        }
+        this.sideToMove = board.currentPlayer().getAlliance();
+        this.castlingRights = board.getCastlingRights();
+        this.enPassantCoordinate = board.getEnPassantCoordinate();
+        this.zobristKey = board.zobristKey();
+        this.undoStack = new long[INITIAL_STACK_SIZE];
+        this.keyStack = new long[INITIAL_STACK_SIZE];
+        this.undoCount = 0;
+    }
+
+    public Alliance getSideToMove(){
+        return this.sideToMove;
+    }
+
+    public int getCastlingRights(){
+        return this.castlingRights;
+    }
+
+    public int getEnPassantCoordinate(){
+        return this.enPassantCoordinate;
+    }
+
+    public long zobristKey(){
+        return this.zobristKey;
+    }
+
+    //zobrist key of the pawns alone, for caching pawn structure
+    public long pawnKey(){
+        return this.pawnKey;
+    }
+
+    //white minus black material and placement, kept up to date on every piece placed or removed
+    public int getMiddlegameScore(){
+        return this.middlegameScore;
+    }
+
+    public int getEndgameScore(){
+        return this.endgameScore;
+    }
+
+    public int getGamePhase(){
+        return this.gamePhase;
+    }
+
+    public int getPly(){
+        return this.undoCount;
+    }
+
+    public int getPieceCode(final int tileCoordinate){
+        return this.mailbox[tileCoordinate];
+    }
+
+    public long getPieces(final Alliance alliance, final PieceType pieceType){
+        return this.pieceSets[BitBoard.pieceSetIndex(alliance, pieceType)];
+    }
+
+    public long getOccupancy(final Alliance alliance){
+        return this.occupancy[alliance.ordinal()];
+    }
+
+    public long getOccupancy(){
+        return this.occupancy[0] | this.occupancy[1];
+    }
+
+    public long getAttackers(final int tileCoordinate, final Alliance attackerAlliance){
+        return BitBoard.calculateAttackers(this.pieceSets, getOccupancy(), tileCoordinate, attackerAlliance);
+    }
+
+    //attackers as if only the given tiles were occupied, lets exchanges reveal pieces behind the capturers
+    public long getAttackers(final int tileCoordinate, final Alliance attackerAlliance, final long occupancy){
+        return BitBoard.calculateAttackers(this.pieceSets, occupancy, tileCoordinate, attackerAlliance) & occupancy;
+    }
+
+    public boolean isKingAttacked(final Alliance alliance){
+        final long king = getPieces(alliance, PieceType.KING);
+        return king != BitBoard.EMPTY && getAttackers(BitBoard.firstTile(king), alliance.getOpposite()) != BitBoard.EMPTY;
+    }
+
+    public boolean isInCheck(){
+        return isKingAttacked(this.sideToMove);
+    }
+
+    public void makeMove(final Move move){
+        makeMove(MoveEncoding.encode(move));
+    }
+
+    public void makeMove(final int move){
+        final int from = MoveEncoding.getFrom(move);
+        final int to = MoveEncoding.getTo(move);
+        final int movedCode = this.mailbox[from];
+        final int captureTile = MoveEncoding.isEnPassant(move) ?
+                to - this.sideToMove.getDirection() * BoardUtils.NUM_TILES_PER_ROW : to;
+        final int capturedCode = this.mailbox[captureTile];
+        int rookFrom = NO_TILE;
+        int rookTo = NO_TILE;
+        if(MoveEncoding.isCastling(move)){
+            rookFrom = MoveEncoding.getCastleRookStart(move);
+            rookTo = MoveEncoding.getCastleRookDestination(move);
+        }
+
+        pushUndo(((long) from << FROM_SHIFT) |
+                ((long) to << TO_SHIFT) |
+                ((long) movedCode << MOVED_SHIFT) |
+                ((long) (capturedCode + 1) << CAPTURED_SHIFT) |
+                ((long) captureTile << CAPTURE_TILE_SHIFT) |
+                ((long) (rookFrom + 1) << ROOK_FROM_SHIFT) |
+                ((long) (rookTo + 1) << ROOK_TO_SHIFT) |
+                ((long) this.castlingRights << CASTLING_SHIFT) |
+                ((long) (this.enPassantCoordinate + 1) << EN_PASSANT_SHIFT));
+
+        if(capturedCode != NO_PIECE){
+            removePiece(captureTile);
+        }
+        removePiece(from);
+        if(MoveEncoding.isPromotion(move)){
+            putPiece(to, BitBoard.pieceSetIndex(this.sideToMove, MoveEncoding.getPromotionType(move)));
+        } else {
+            putPiece(to, movedCode);
+        }
+        if(rookFrom != NO_TILE){
+            putPiece(rookTo, removePiece(rookFrom));
+        }
+
+        this.zobristKey ^= Zobrist.enPassantKey(this.enPassantCoordinate) ^ Zobrist.castlingKey(this.castlingRights);
+        this.enPassantCoordinate = MoveEncoding.isPawnJump(move) ? (from + to) / 2 : NO_TILE;
+        this.castlingRights &= BoardUtils.CASTLING_RIGHTS_MASKS[from] & BoardUtils.CASTLING_RIGHTS_MASKS[to];
+        this.sideToMove = this.sideToMove.getOpposite();
+        this.zobristKey ^= Zobrist.enPassantKey(this.enPassantCoordinate) ^ Zobrist.castlingKey(this.castlingRights) ^
+                Zobrist.sideToMoveKey(Alliance.BLACK);
+    }
+
+    public void unmakeMove(){
+        if(this.undoCount == 0){
+            throw new RuntimeException("No move to unmake!");
+        }
+        final long undo = this.undoStack[--this.undoCount];
+        final long previousKey = this.keyStack[this.undoCount];
+        final int from = field(undo, FROM_SHIFT, 6);
+        final int to = field(undo, TO_SHIFT, 6);
+        final int movedCode = field(undo, MOVED_SHIFT, 4);
+        final int capturedCode = field(undo, CAPTURED_SHIFT, 4) - 1;
+        final int captureTile = field(undo, CAPTURE_TILE_SHIFT, 6);
+        final int rookFrom = field(undo, ROOK_FROM_SHIFT, 7) - 1;
+        final int rookTo = field(undo, ROOK_TO_SHIFT, 7) - 1;
+
+        this.sideToMove = this.sideToMove.getOpposite();
+        this.castlingRights = field(undo, CASTLING_SHIFT, 4);
+        this.enPassantCoordinate = field(undo, EN_PASSANT_SHIFT, 7) - 1;
+
+        if(rookFrom != NO_TILE){
+            putPiece(rookFrom, removePiece(rookTo));
+        }
+        removePiece(to);
+        putPiece(from, movedCode);
+        if(capturedCode != NO_PIECE){
+            putPiece(captureTile, capturedCode);
+        }
+        this.zobristKey = previousKey;
+    }
+
+    //told about every piece placed or removed, by makeMove and unmakeMove alike
+    public void setPieceListener(final PieceListener pieceListener){
+        this.pieceListener = pieceListener;
+    }
+
+    public Board toBoard(){
+        final Board.Builder builder = new Board.Builder();
+        final int enPassantPawnCoordinate = this.enPassantCoordinate == NO_TILE ? NO_TILE :
+                this.enPassantCoordinate - this.sideToMove.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+        for(int i = 0; i < BoardUtils.NUM_TILES; i++){
+            if(this.mailbox[i] != NO_PIECE){
+                final Piece piece = createPiece(this.mailbox[i], i, this.castlingRights);
+                builder.setPiece(piece);
+                if(i == enPassantPawnCoordinate){
+                    builder.setEnPassantPawn((Pawn) piece);
+                }
+            }
+        }
+        builder.setMoveMoker(this.sideToMove);
+        return builder.build();
+    }
+
+    private void putPiece(final int tileCoordinate, final int pieceCode){
+        final long tile = BitBoard.tileMask(tileCoordinate);
+        this.pieceSets[pieceCode] |= tile;
+        this.occupancy[allianceOf(pieceCode)] |= tile;
+        this.mailbox[tileCoordinate] = pieceCode;
+        this.zobristKey ^= Zobrist.pieceKey(pieceCode, tileCoordinate);
+        if(BitBoard.pieceTypeOf(pieceCode) == PieceType.PAWN){
+            this.pawnKey ^= Zobrist.pieceKey(pieceCode, tileCoordinate);
+        }
+        this.middlegameScore += PieceSquareTables.middlegameScore(pieceCode, tileCoordinate);
+        this.endgameScore += PieceSquareTables.endgameScore(pieceCode, tileCoordinate);
+        this.gamePhase += PieceSquareTables.phaseWeight(pieceCode);
+        if(this.pieceListener != null){
+            this.pieceListener.piecePlaced(pieceCode, tileCoordinate);
+        }
+    }
+
+    private int removePiece(final int tileCoordinate){
+        final int pieceCode = this.mailbox[tileCoordinate];
+        final long tile = BitBoard.tileMask(tileCoordinate);
+        this.pieceSets[pieceCode] &= ~tile;
+        this.occupancy[allianceOf(pieceCode)] &= ~tile;
+        this.mailbox[tileCoordinate] = NO_PIECE;
+        this.zobristKey ^= Zobrist.pieceKey(pieceCode, tileCoordinate);
+        if(BitBoard.pieceTypeOf(pieceCode) == PieceType.PAWN){
+            this.pawnKey ^= Zobrist.pieceKey(pieceCode, tileCoordinate);
+        }
+        this.middlegameScore -= PieceSquareTables.middlegameScore(pieceCode, tileCoordinate);
+        this.endgameScore -= PieceSquareTables.endgameScore(pieceCode, tileCoordinate);
+        this.gamePhase -= PieceSquareTables.phaseWeight(pieceCode);
+        if(this.pieceListener != null){
+            this.pieceListener.pieceRemoved(pieceCode, tileCoordinate);
+        }
+        return pieceCode;
+    }
+
+    private void pushUndo(final long undo){
+        if(this.undoCount == this.undoStack.length){
+            this.undoStack = Arrays.copyOf(this.undoStack, this.undoStack.length * 2);
+            this.keyStack = Arrays.copyOf(this.keyStack, this.keyStack.length * 2);
+        }
+        this.keyStack[this.undoCount] = this.zobristKey;
+        this.undoStack[this.undoCount++] = undo;
+    }
+
+    private static int field(final long undo, final int shift, final int bits){
+        return (int) ((undo >>> shift) & ((1L << bits) - 1));
+    }
+
+    private static int allianceOf(final int pieceCode){
+        return pieceCode / PieceType.values().length;
+    }
+
+    private static Piece createPiece(final int pieceCode, final int tileCoordinate, final int castlingRights){
+        final Alliance alliance = Alliance.values()[allianceOf(pieceCode)];
+        final PieceType pieceType = PieceType.values()[pieceCode % PieceType.values().length];
+        //only kings and rooks that can still castle count as unmoved
+        final int castlesKept = castlingRights & ~BoardUtils.CASTLING_RIGHTS_MASKS[tileCoordinate];
+        final boolean isFirstMove = (pieceType.isKing() || pieceType.isRook()) && castlesKept != 0;
+        return pieceType.createPiece(tileCoordinate, alliance, isFirstMove);
+    }
+
+    public interface PieceListener {
+
+        void piecePlaced(int pieceCode, int tileCoordinate);
+
+        void pieceRemoved(int pieceCode, int tileCoordinate);
+    }
+}
@@ -0,0 +1,68 @@
+package engine.board;
+
+import engine.Alliance;
+import engine.pieces.Piece;
+
+import java.util.SplittableRandom;
+
+public final class Zobrist {
+
+    //fixed seed so keys are stable between runs and can be stored
+    private static final long ZOBRIST_SEED = 0x2545F4914F6CDD1DL;
+
+    private static final long[][] PIECE_KEYS = new long[2 * Piece.PieceType.values().length][BoardUtils.NUM_TILES];
+    private static final long[] CASTLING_KEYS = new long[BoardUtils.ALL_CASTLES + 1];
+    private static final long[] EN_PASSANT_KEYS = new long[BoardUtils.NUM_TILES_PER_ROW];
+    private static final long BLACK_TO_MOVE_KEY;
+
+    static {
+        final SplittableRandom random = new SplittableRandom(ZOBRIST_SEED);
+        for(final long[] pieceKeys : PIECE_KEYS){
+            for(int i = 0; i < pieceKeys.length; i++){
+                pieceKeys[i] = random.nextLong();
+            }
+        }
+        for(int i = 0; i < CASTLING_KEYS.length; i++){
+            CASTLING_KEYS[i] = random.nextLong();
+        }
+        for(int i = 0; i < EN_PASSANT_KEYS.length; i++){
+            EN_PASSANT_KEYS[i] = random.nextLong();
+        }
+        BLACK_TO_MOVE_KEY = random.nextLong();
+    }
+
+    private Zobrist(){
+        throw new RuntimeException("You cannot instantiate me!");
+    }
+
+    public static long pieceKey(final int pieceCode, final int tileCoordinate){
+        return PIECE_KEYS[pieceCode][tileCoordinate];
+    }
+
+    public static long pieceKey(final Piece piece){
+        return pieceKey(BitBoard.pieceSetIndex(piece.getPieceAlliance(), piece.getPieceType()), piece.getPiecePosition());
+    }
+
+    public static long castlingKey(final int castlingRights){
+        return CASTLING_KEYS[castlingRights];
+    }
+
+    public static long enPassantKey(final int enPassantCoordinate){
+        return enPassantCoordinate < 0 ? 0L : EN_PASSANT_KEYS[enPassantCoordinate % BoardUtils.NUM_TILES_PER_ROW];
+    }
+
+    public static long sideToMoveKey(final Alliance alliance){
+        return alliance.isBlack() ? BLACK_TO_MOVE_KEY : 0L;
+    }
+
+    static long calculateKey(final Piece[] boardConfig, final Alliance moveMaker, final int castlingRights,
+                             final int enPassantCoordinate){
+        long key = sideToMoveKey(moveMaker) ^ castlingKey(castlingRights) ^ enPassantKey(enPassantCoordinate);
+        for(final Piece piece : boardConfig){
+            if(piece != null){
+                key ^= pieceKey(piece);
+            }
+        }
+        return key;
+    }
+}
@@ -0,0 +1,100 @@
+package engine.perft;
+
+import engine.board.Board;
+import engine.board.FenUtilities;
+import engine.board.Move;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public final class ParallelPerft {
+
+    //plies below the root that are split into separate tasks, deeper plies run sequentially
+    public static final int DEFAULT_SPLIT_PLIES = 2;
+
+    private ParallelPerft(){
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static PerftResult run(final Board board, final int depth, final int parallelism){
+        return run(board, depth, parallelism, DEFAULT_SPLIT_PLIES);
+    }
+
+    public static PerftResult run(final Board board, final int depth, final int parallelism, final int splitPlies){
+        Perft.checkDepth(depth);
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            final long start = System.nanoTime();
+            final long nodes = pool.invoke(new PerftTask(board, depth, splitPlies));
+            return new PerftResult(depth, nodes, System.nanoTime() - start);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public static long perft(final Board board, final int depth){
+        return run(board, depth, Runtime.getRuntime().availableProcessors()).getNodes();
+    }
+
+    private static final class PerftTask extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Board board;
+        private final int depth;
+        private final int splitPlies;
+
+        PerftTask(final Board board, final int depth, final int splitPlies){
+            this.board = board;
+            this.depth = depth;
+            this.splitPlies = splitPlies;
+        }
+
+        @Override
+        protected Long compute(){
+            if(this.splitPlies <= 0 || this.depth <= 1){
+                return Perft.countNodes(this.board, this.depth);
+            }
+            final List<PerftTask> subtrees = new ArrayList<>();
+            for(final Move move : this.board.currentPlayer().getLegalMoves()){
+                subtrees.add(new PerftTask(move.execute(), this.depth - 1, this.splitPlies - 1));
+            }
+            long nodes = 0;
+            for(final PerftTask subtree : invokeAll(subtrees)){
+                nodes += subtree.join();
+            }
+            return nodes;
+        }
+    }
+
+    //usage: ParallelPerft <depth> [fen] [max threads]
+    public static void main(final String[] args){
+        if(args.length < 1){
+            System.out.println("usage: ParallelPerft <depth> [fen] [max threads]");
+            return;
+        }
+        final int depth = Integer.parseInt(args[0]);
+        final Board board = args.length > 1 ? FenUtilities.createGameFromFEN(args[1]) : Board.createStandardBoard();
+        final int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        //warm up the JIT so the single thread baseline is not penalised
+        run(board, Math.min(depth, 3), maxThreads);
+
+        long baselineNanos = 0;
+        int threads = 1;
+        while(true){
+            final PerftResult result = run(board, depth, threads);
+            if(threads == 1){
+                baselineNanos = result.getElapsedNanos();
+            }
+            System.out.println(String.format("%2d threads: %s speedup %.2fx", threads, result,
+                    (double) baselineNanos / result.getElapsedNanos()));
+            if(threads >= maxThreads){
+                break;
+            }
+            threads = Math.min(threads * 2, maxThreads);
+        }
+    }
+}
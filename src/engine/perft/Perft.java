@@ -0,0 +1,85 @@
+package engine.perft;
+
+import engine.board.Board;
+import engine.board.FenUtilities;
+import engine.board.Move;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class Perft {
+
+    public static final int MAX_DEPTH = 12;
+
+    private Perft(){
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static long perft(final Board board, final int depth){
+        checkDepth(depth);
+        return countNodes(board, depth);
+    }
+
+    public static PerftResult run(final Board board, final int depth){
+        checkDepth(depth);
+        final long start = System.nanoTime();
+        final long nodes = countNodes(board, depth);
+        return new PerftResult(depth, nodes, System.nanoTime() - start);
+    }
+
+    public static Map<String, Long> divide(final Board board, final int depth){
+        checkDepth(depth);
+        final Map<String, Long> divide = new LinkedHashMap<>();
+        for(final Move move : board.currentPlayer().getLegalMoves()){
+            divide.put(move.getCoordinateNotation(), countNodes(move.execute(), depth - 1));
+        }
+        return divide;
+    }
+
+    static long countNodes(final Board board, final int depth){
+        if(depth == 0){
+            return 1;
+        }
+        //the legal move list needs no trial moves, so the last ply is just counted
+        if(depth == 1){
+            return board.currentPlayer().getLegalMoves().size();
+        }
+        long nodes = 0;
+        for(final Move move : board.currentPlayer().getLegalMoves()){
+            nodes += countNodes(move.execute(), depth - 1);
+        }
+        return nodes;
+    }
+
+    static void checkDepth(final int depth){
+        if(depth < 1 || depth > MAX_DEPTH){
+            throw new IllegalArgumentException("Perft depth must be between 1 and " + MAX_DEPTH + ": " + depth);
+        }
+    }
+
+    //usage: Perft <depth> [fen] [divide]
+    public static void main(final String[] args){
+        if(args.length < 1){
+            System.out.println("usage: Perft <depth> [fen] [divide]");
+            return;
+        }
+        final int depth = Integer.parseInt(args[0]);
+        final Board board = args.length > 1 && !"divide".equals(args[1]) ?
+                FenUtilities.createGameFromFEN(args[1]) : Board.createStandardBoard();
+        final boolean divide = "divide".equals(args[args.length - 1]);
+
+        if(divide){
+            final long start = System.nanoTime();
+            long nodes = 0;
+            for(final Map.Entry<String, Long> entry : divide(board, depth).entrySet()){
+                System.out.println(entry.getKey() + ": " + entry.getValue());
+                nodes += entry.getValue();
+            }
+            System.out.println(new PerftResult(depth, nodes, System.nanoTime() - start));
+        } else {
+            for(int i = 1; i <= depth; i++){
+                System.out.println(run(board, i));
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package engine.perft;
+
+public class PerftResult {
+
+    private final int depth;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    PerftResult(final int depth, final long nodes, final long elapsedNanos){
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getDepth(){
+        return this.depth;
+    }
+
+    public long getNodes(){
+        return this.nodes;
+    }
+
+    public long getElapsedNanos(){
+        return this.elapsedNanos;
+    }
+
+    public long getNodesPerSecond(){
+        return this.elapsedNanos == 0 ? 0 : (long) (this.nodes * 1_000_000_000.0 / this.elapsedNanos);
+    }
+
+    @Override
+    public String toString(){
+        return String.format("depth %d: %d nodes in %.3fs (%d nodes/sec)", this.depth, this.nodes,
+                this.elapsedNanos / 1_000_000_000.0, getNodesPerSecond());
+    }
+}
@@ -0,0 +1,37 @@
+package engine.perft;
+
+import engine.board.Board;
+
+public final class PerftSuite {
+
+    //by default every published count is checked, the deepest ones are where castling, en passant and
+    //promotion bugs show up; a smaller limit gives a quick smoke run
+    private static final long DEFAULT_NODE_LIMIT = Long.MAX_VALUE;
+
+    private PerftSuite(){
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static boolean runSuite(final long nodeLimit){
+        boolean passed = true;
+        for(final PerftPosition position : PerftPosition.values()){
+            final Board board = position.createBoard();
+            for(int depth = 1; depth <= position.getMaxDepth() && position.getExpectedNodes(depth) <= nodeLimit; depth++){
+                final PerftResult result = Perft.run(board, depth);
+                final boolean matches = result.getNodes() == position.getExpectedNodes(depth);
+                System.out.println(String.format("%-20s %s %s", position, result,
+                        matches ? "ok" : "FAILED, expected " + position.getExpectedNodes(depth)));
+                passed &= matches;
+            }
+        }
+        return passed;
+    }
+
+    //usage: PerftSuite [node limit]
+    public static void main(final String[] args){
+        final long nodeLimit = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_NODE_LIMIT;
+        if(!runSuite(nodeLimit)){
+            System.exit(1);
+        }
+    }
+}
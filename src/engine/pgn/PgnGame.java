@@ -0,0 +1,162 @@
+package engine.pgn;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PgnGame {
+
+    public static final String UNKNOWN_RESULT = "*";
+
+    private final String tagSection;
+    private final String moveText;
+    private final Supplier<Map<String, String>> tags;
+    private final Supplier<List<String>> moves;
+    private String result;
+
+    //both sections are kept as read and only parsed when first asked for
+    public PgnGame(final String tagSection, final String moveText){
+        this.tagSection = tagSection;
+        this.moveText = moveText;
+        this.tags = Suppliers.memoize(this::parseTagSection);
+        this.moves = Suppliers.memoize(this::parseMoveText);
+    }
+
+    public Map<String, String> getTags(){
+        return this.tags.get();
+    }
+
+    public String getTag(final String name){
+        return getTags().get(name);
+    }
+
+    public String getTagSection(){
+        return this.tagSection;
+    }
+
+    public String getMoveText(){
+        return this.moveText;
+    }
+
+    //SAN tokens of the main line, without move numbers, comments, variations or annotations
+    public List<String> getMoves(){
+        return this.moves.get();
+    }
+
+    public String getResult(){
+        getMoves();
+        if(this.result != null){
+            return this.result;
+        }
+        final String resultTag = getTag("Result");
+        return resultTag == null ? UNKNOWN_RESULT : resultTag;
+    }
+
+    @Override
+    public String toString(){
+        return getTag("White") + " - " + getTag("Black") + " " + getResult();
+    }
+
+    //[Name "value"] pairs, with \" and \\ escaped inside the value
+    private Map<String, String> parseTagSection(){
+        final Map<String, String> tagPairs = new LinkedHashMap<>();
+        final String text = this.tagSection;
+        int i = text.indexOf('[');
+        while(i >= 0){
+            int nameEnd = i + 1;
+            while(nameEnd < text.length() && !Character.isWhitespace(text.charAt(nameEnd)) && text.charAt(nameEnd) != '"'){
+                nameEnd++;
+            }
+            final int valueStart = text.indexOf('"', nameEnd);
+            if(valueStart < 0){
+                break;
+            }
+            final StringBuilder value = new StringBuilder();
+            int c = valueStart + 1;
+            while(c < text.length() && text.charAt(c) != '"'){
+                if(text.charAt(c) == '\\' && c + 1 < text.length()){
+                    c++;
+                }
+                value.append(text.charAt(c));
+                c++;
+            }
+            tagPairs.putIfAbsent(text.substring(i + 1, nameEnd), value.toString());
+            i = text.indexOf('[', c);
+        }
+        return ImmutableMap.copyOf(tagPairs);
+    }
+
+    private List<String> parseMoveText(){
+        final List<String> sanMoves = new ArrayList<>();
+        final String text = this.moveText;
+        int variationDepth = 0;
+        int i = 0;
+        while(i < text.length()){
+            final char c = text.charAt(i);
+            if(Character.isWhitespace(c)){
+                i++;
+            } else if(c == '{'){
+                final int end = text.indexOf('}', i);
+                i = end < 0 ? text.length() : end + 1;
+            } else if(c == ';'){
+                final int end = text.indexOf('\n', i);
+                i = end < 0 ? text.length() : end + 1;
+            } else if(c == '('){
+                variationDepth++;
+                i++;
+            } else if(c == ')'){
+                variationDepth = Math.max(0, variationDepth - 1);
+                i++;
+            } else {
+                final int start = i;
+                while(i < text.length() && !isTokenEnd(text.charAt(i))){
+                    i++;
+                }
+                if(i == start){
+                    i++;
+                    continue;
+                }
+                final String token = text.substring(start, i);
+                if(variationDepth == 0){
+                    addToken(sanMoves, token);
+                }
+            }
+        }
+        return ImmutableList.copyOf(sanMoves);
+    }
+
+    private void addToken(final List<String> sanMoves, final String token){
+        if(isResult(token)){
+            this.result = token;
+            return;
+        }
+        if(token.charAt(0) == '$'){
+            return;
+        }
+        //move numbers come as "12." or "12..." and may be glued to the move itself
+        int start = 0;
+        while(start < token.length() && (Character.isDigit(token.charAt(start)) || token.charAt(start) == '.')){
+            start++;
+        }
+        if(start > 0 && token.charAt(start - 1) != '.'){
+            start = 0;
+        }
+        if(start < token.length()){
+            sanMoves.add(token.substring(start));
+        }
+    }
+
+    static boolean isTokenEnd(final char c){
+        return Character.isWhitespace(c) || c == '{' || c == '}' || c == '(' || c == ')' || c == ';';
+    }
+
+    static boolean isResult(final String token){
+        return "1-0".equals(token) || "0-1".equals(token) || "1/2-1/2".equals(token) || UNKNOWN_RESULT.equals(token);
+    }
+}
@@ -0,0 +1,40 @@
+package engine.pgn;
+
+public class PgnImportReport {
+
+    private final long validGames;
+    private final long invalidGames;
+    private final long elapsedNanos;
+
+    PgnImportReport(final long validGames, final long invalidGames, final long elapsedNanos){
+        this.validGames = validGames;
+        this.invalidGames = invalidGames;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames(){
+        return this.validGames + this.invalidGames;
+    }
+
+    public long getValidGames(){
+        return this.validGames;
+    }
+
+    public long getInvalidGames(){
+        return this.invalidGames;
+    }
+
+    public long getElapsedNanos(){
+        return this.elapsedNanos;
+    }
+
+    public long getGamesPerSecond(){
+        return this.elapsedNanos == 0 ? 0 : (long) (getGames() * 1_000_000_000.0 / this.elapsedNanos);
+    }
+
+    @Override
+    public String toString(){
+        return String.format("%d games (%d valid, %d invalid) in %.3fs (%d games/sec)", getGames(), this.validGames,
+                this.invalidGames, this.elapsedNanos / 1_000_000_000.0, getGamesPerSecond());
+    }
+}
@@ -0,0 +1,73 @@
+package engine.pgn;
+
+import java.util.Map;
+
+public class PgnImportResult {
+
+    public enum Status {
+        VALID {
+            @Override
+            public boolean isValid() {
+                return true;
+            }
+        },
+        INVALID {
+            @Override
+            public boolean isValid() {
+                return false;
+            }
+        };
+
+        public abstract boolean isValid();
+    }
+
+    private final long gameNumber;
+    private final Map<String, String> tags;
+    private final Status status;
+    private final int plies;
+    private final String finalPosition;
+    private final String error;
+
+    PgnImportResult(final long gameNumber, final Map<String, String> tags, final Status status, final int plies,
+                    final String finalPosition, final String error){
+        this.gameNumber = gameNumber;
+        this.tags = tags;
+        this.status = status;
+        this.plies = plies;
+        this.finalPosition = finalPosition;
+        this.error = error;
+    }
+
+    //counted from 1 in file order, results themselves arrive in whatever order the workers finish
+    public long getGameNumber(){
+        return this.gameNumber;
+    }
+
+    public Map<String, String> getTags(){
+        return this.tags;
+    }
+
+    public Status getStatus(){
+        return this.status;
+    }
+
+    //moves that replayed legally, for an invalid game the failing move is the one after these
+    public int getPlies(){
+        return this.plies;
+    }
+
+    //FEN of the last legal position reached
+    public String getFinalPosition(){
+        return this.finalPosition;
+    }
+
+    public String getError(){
+        return this.error;
+    }
+
+    @Override
+    public String toString(){
+        return "game " + this.gameNumber + " " + this.status + " after " + this.plies + " plies: " +
+                (this.status.isValid() ? this.finalPosition : this.error);
+    }
+}
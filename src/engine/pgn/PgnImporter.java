@@ -0,0 +1,218 @@
+package engine.pgn;
+
+import engine.board.Board;
+import engine.board.FenUtilities;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+public class PgnImporter {
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    //tells a worker that the splitter is done, and the collector that a worker is done
+    private static final SplitGame END_OF_GAMES = new SplitGame(0, null);
+    private static final PgnImportResult END_OF_RESULTS = new PgnImportResult(0, null, null, 0, null, null);
+
+    private final int workerThreads;
+    private final int queueCapacity;
+    private final ExecutorService executor;
+
+    public PgnImporter(final int workerThreads){
+        this(workerThreads, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    //the bounded queues are the backpressure, a slow stage blocks the one feeding it instead of buffering the file
+    public PgnImporter(final int workerThreads, final int queueCapacity){
+        if(workerThreads < 1){
+            throw new IllegalArgumentException("Need at least one worker thread: " + workerThreads);
+        }
+        if(queueCapacity < 1){
+            throw new IllegalArgumentException("Queue capacity must be positive: " + queueCapacity);
+        }
+        this.workerThreads = workerThreads;
+        this.queueCapacity = queueCapacity;
+        this.executor = Executors.newFixedThreadPool(workerThreads + 1, runnable -> {
+            final Thread thread = new Thread(runnable, "pgn-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    //splits on one thread, replays on the workers and hands every result to the consumer on the calling thread
+    public PgnImportReport importFile(final Path pgnFile, final Consumer<? super PgnImportResult> consumer){
+        final long start = System.nanoTime();
+        final BlockingQueue<SplitGame> games = new ArrayBlockingQueue<>(this.queueCapacity);
+        final BlockingQueue<PgnImportResult> results = new ArrayBlockingQueue<>(this.queueCapacity);
+        //the first failure of the splitter or a worker, the import is abandoned once one shows up
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        if(this.executor.isShutdown()){
+            throw new IllegalStateException("PgnImporter has been shut down");
+        }
+        final List<Future<?>> stages = new ArrayList<>(this.workerThreads + 1);
+        stages.add(this.executor.submit(() -> split(pgnFile, games, failure)));
+        for(int i = 0; i < this.workerThreads; i++){
+            stages.add(this.executor.submit(() -> replay(games, results, failure)));
+        }
+
+        long validGames = 0;
+        long invalidGames = 0;
+        int finishedWorkers = 0;
+        try {
+            while(finishedWorkers < this.workerThreads){
+                final PgnImportResult result = take(results);
+                if(result == END_OF_RESULTS){
+                    finishedWorkers++;
+                    if(failure.get() != null){
+                        break;
+                    }
+                    continue;
+                }
+                if(result.getStatus().isValid()){
+                    validGames++;
+                } else {
+                    invalidGames++;
+                }
+                consumer.accept(result);
+            }
+        } catch (final RuntimeException | Error e) {
+            abort(stages, games, results);
+            throw e;
+        }
+        if(failure.get() != null){
+            abort(stages, games, results);
+            if(failure.get() instanceof Error){
+                throw (Error) failure.get();
+            }
+            throw (RuntimeException) failure.get();
+        }
+        return new PgnImportReport(validGames, invalidGames, System.nanoTime() - start);
+    }
+
+    public int getWorkerThreads(){
+        return this.workerThreads;
+    }
+
+    public void shutdown(){
+        this.executor.shutdownNow();
+    }
+
+    private void split(final Path pgnFile, final BlockingQueue<SplitGame> games, final AtomicReference<Throwable> failure){
+        try(final PgnReader reader = new PgnReader(pgnFile)){
+            PgnGame game;
+            while((game = reader.readGame()) != null){
+                put(games, new SplitGame(reader.getGamesRead(), game));
+            }
+        } catch (final RuntimeException | Error e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            //an interrupted splitter is being aborted, nobody is left to take the markers
+            for(int i = 0; i < this.workerThreads && !Thread.currentThread().isInterrupted(); i++){
+                put(games, END_OF_GAMES);
+            }
+        }
+    }
+
+    //the end marker goes out however the worker stops, the collector counts on one from every worker
+    private static void replay(final BlockingQueue<SplitGame> games, final BlockingQueue<PgnImportResult> results,
+                               final AtomicReference<Throwable> failure){
+        try {
+            SplitGame splitGame;
+            while((splitGame = take(games)) != END_OF_GAMES){
+                put(results, replay(splitGame));
+            }
+        } catch (final RuntimeException | Error e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            if(!Thread.currentThread().isInterrupted()){
+                put(results, END_OF_RESULTS);
+            }
+        }
+    }
+
+    //each move yields a new immutable board, so workers share nothing but the queues
+    private static PgnImportResult replay(final SplitGame splitGame){
+        final PgnGame game = splitGame.game;
+        Board board = null;
+        int plies = 0;
+        try {
+            board = PgnUtilities.createStartingBoard(game);
+            final List<String> moves = game.getMoves();
+            for(; plies < moves.size(); plies++){
+                board = PgnUtilities.playMove(board, moves.get(plies)).getTransitionBoard();
+            }
+            return new PgnImportResult(splitGame.gameNumber, game.getTags(), PgnImportResult.Status.VALID, plies,
+                    FenUtilities.createFENFromGame(board), null);
+        } catch (final RuntimeException e) {
+            return new PgnImportResult(splitGame.gameNumber, game.getTags(), PgnImportResult.Status.INVALID, plies,
+                    board == null ? null : FenUtilities.createFENFromGame(board), e.getMessage());
+        }
+    }
+
+    //interrupts this import's stages and empties its queues, so no thread stays parked on a queue nobody serves
+    //anymore; the pool itself lives on for the next import
+    private static void abort(final List<Future<?>> stages, final BlockingQueue<SplitGame> games,
+                              final BlockingQueue<PgnImportResult> results){
+        for(final Future<?> stage : stages){
+            stage.cancel(true);
+        }
+        games.clear();
+        results.clear();
+    }
+
+    private static <T> T take(final BlockingQueue<T> queue){
+        try {
+            return queue.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while importing games", e);
+        }
+    }
+
+    private static <T> void put(final BlockingQueue<T> queue, final T element){
+        try {
+            queue.put(element);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while importing games", e);
+        }
+    }
+
+    private static final class SplitGame {
+
+        private final long gameNumber;
+        private final PgnGame game;
+
+        private SplitGame(final long gameNumber, final PgnGame game){
+            this.gameNumber = gameNumber;
+            this.game = game;
+        }
+    }
+
+    //usage: PgnImporter <pgn file> [worker threads]
+    public static void main(final String[] args){
+        if(args.length == 0){
+            throw new IllegalArgumentException("Usage: PgnImporter <pgn file> [worker threads]");
+        }
+        final int workerThreads = args.length > 1 ? Integer.parseInt(args[1]) :
+                Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        final PgnImporter importer = new PgnImporter(workerThreads);
+        final PgnImportReport report = importer.importFile(Paths.get(args[0]), result -> {
+            if(!result.getStatus().isValid()){
+                System.out.println(result);
+            }
+        });
+        importer.shutdown();
+        System.out.println(report);
+    }
+}
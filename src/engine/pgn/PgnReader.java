@@ -0,0 +1,142 @@
+package engine.pgn;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class PgnReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path pgnFile;
+    private final FileChannel channel;
+    private final BufferedReader reader;
+    private final StringBuilder tagSection;
+    private final StringBuilder moveText;
+
+    //the first line of the next game, read while looking for the end of the current one
+    private String pendingLine;
+    private long gamesRead;
+    //where the scan of the current game's move text stands, carried from one line to the next
+    private boolean inComment;
+    private int variationDepth;
+    private boolean afterResult;
+
+    //only the current game is ever held in memory, however large the file is
+    public PgnReader(final Path pgnFile){
+        this.pgnFile = pgnFile;
+        try {
+            this.channel = FileChannel.open(pgnFile, StandardOpenOption.READ);
+        } catch (final IOException e) {
+            throw new RuntimeException("Could not open " + pgnFile, e);
+        }
+        //databases are often latin-1, so bad utf-8 is replaced instead of failing the whole file
+        final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.reader = new BufferedReader(Channels.newReader(this.channel, decoder, BUFFER_SIZE), BUFFER_SIZE);
+        this.tagSection = new StringBuilder();
+        this.moveText = new StringBuilder();
+    }
+
+    //the next game in the file, or null once the file is exhausted
+    public PgnGame readGame(){
+        this.tagSection.setLength(0);
+        this.moveText.setLength(0);
+        this.inComment = false;
+        this.variationDepth = 0;
+        this.afterResult = false;
+        try {
+            String line = this.pendingLine != null ? this.pendingLine : this.reader.readLine();
+            this.pendingLine = null;
+            while(line != null){
+                if(!this.inComment && isTagLine(line)){
+                    if(this.moveText.length() > 0){
+                        this.pendingLine = line;
+                        break;
+                    }
+                    this.tagSection.append(line).append('\n');
+                } else if(this.inComment || !line.isEmpty() && line.charAt(0) != '%'){
+                    final int nextGame = findNextGame(line);
+                    if(nextGame >= 0){
+                        this.moveText.append(line, 0, nextGame).append('\n');
+                        this.pendingLine = line.substring(nextGame);
+                        break;
+                    }
+                    this.moveText.append(line).append('\n');
+                }
+                line = this.reader.readLine();
+            }
+        } catch (final IOException e) {
+            throw new RuntimeException("Could not read " + this.pgnFile, e);
+        }
+        if(this.tagSection.length() == 0 && this.moveText.length() == 0){
+            return null;
+        }
+        this.gamesRead++;
+        return new PgnGame(this.tagSection.toString(), this.moveText.toString());
+    }
+
+    public long getGamesRead(){
+        return this.gamesRead;
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.reader.close();
+            this.channel.close();
+        } catch (final IOException e) {
+            throw new RuntimeException("Could not close " + this.pgnFile, e);
+        }
+    }
+
+    private static boolean isTagLine(final String line){
+        for(int i = 0; i < line.length(); i++){
+            if(!Character.isWhitespace(line.charAt(i))){
+                return line.charAt(i) == '[';
+            }
+        }
+        return false;
+    }
+
+    //where the next game starts on this line, or -1; a game ends at its result token outside comments and
+    //variations, and whatever move text follows belongs to the next one, even without a tag section of its own.
+    //brace comments may span lines, and a tag-looking line inside one must not start a new game
+    private int findNextGame(final String line){
+        int i = 0;
+        while(i < line.length()){
+            final char c = line.charAt(i);
+            if(this.inComment){
+                this.inComment = c != '}';
+                i++;
+            } else if(c == '{'){
+                this.inComment = true;
+                i++;
+            } else if(c == ';'){
+                break;
+            } else if(Character.isWhitespace(c) || c == '}'){
+                i++;
+            } else if(this.afterResult){
+                return i;
+            } else if(c == '(' || c == ')'){
+                this.variationDepth = Math.max(0, this.variationDepth + (c == '(' ? 1 : -1));
+                i++;
+            } else {
+                final int start = i;
+                while(i < line.length() && !PgnGame.isTokenEnd(line.charAt(i))){
+                    i++;
+                }
+                this.afterResult = this.variationDepth == 0 && PgnGame.isResult(line.substring(start, i));
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,160 @@
+package engine.pgn;
+
+import engine.board.Board;
+import engine.board.BoardUtils;
+import engine.board.FenUtilities;
+import engine.board.Move;
+import engine.pieces.Piece.PieceType;
+import engine.player.MoveTransition;
+
+public class PgnUtilities {
+
+    private static final int NO_SOURCE = -1;
+
+    private PgnUtilities(){
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    //games with a SetUp position start from their FEN tag, everything else from the standard position
+    public static Board createStartingBoard(final PgnGame game){
+        final String fen = game.getTag("FEN");
+        return fen == null ? Board.createStandardBoard() : FenUtilities.createGameFromFEN(fen);
+    }
+
+    public static Board replayGame(final PgnGame game){
+        Board board = createStartingBoard(game);
+        for(final String san : game.getMoves()){
+            board = playMove(board, san).getTransitionBoard();
+        }
+        return board;
+    }
+
+    public static MoveTransition playMove(final Board board, final String san){
+        final String move = stripSuffixes(san);
+        if(move.startsWith("O-O") || move.startsWith("0-0")){
+            return playCastle(board, san, move.length() > 3);
+        }
+
+        String body = move;
+        PieceType promotionType = null;
+        final int promotionIndex = body.indexOf('=');
+        if(promotionIndex >= 0 && promotionIndex + 1 < body.length()){
+            promotionType = parsePieceType(body.charAt(promotionIndex + 1));
+            body = body.substring(0, promotionIndex);
+        } else if(body.length() > 2 && isFile(body.charAt(0)) && parsePieceType(body.charAt(body.length() - 1)) != null){
+            promotionType = parsePieceType(body.charAt(body.length() - 1));
+            body = body.substring(0, body.length() - 1);
+        }
+        PieceType pieceType = parsePieceType(body.charAt(0));
+        if(pieceType == null){
+            pieceType = PieceType.PAWN;
+        } else {
+            body = body.substring(1);
+        }
+        body = body.replace("x", "").replace("-", "");
+        if(body.length() < 2 || !isFile(body.charAt(body.length() - 2)) || !isRank(body.charAt(body.length() - 1))){
+            throw new RuntimeException("Invalid SAN move: " + san);
+        }
+        final int destination = coordinate(body.charAt(body.length() - 2), body.charAt(body.length() - 1));
+
+        //file and rank hints, either of which may be missing
+        int column = NO_SOURCE;
+        int row = NO_SOURCE;
+        for(int i = 0; i < body.length() - 2; i++){
+            final char c = body.charAt(i);
+            if(isFile(c)){
+                column = c - 'a';
+            } else if(isRank(c)){
+                row = '8' - c;
+            } else {
+                throw new RuntimeException("Invalid SAN move: " + san);
+            }
+        }
+
+        MoveTransition played = null;
+        int lastSource = NO_SOURCE;
+        for(final Move candidate : board.currentPlayer().getLegalMoves()){
+            final int source = candidate.getCurrentCoordinate();
+            if(source == lastSource || candidate.getDestinationCoordinate() != destination || candidate.isCastlingMove() ||
+                    candidate.getMovedPiece().getPieceType() != pieceType ||
+                    column != NO_SOURCE && source % BoardUtils.NUM_TILES_PER_ROW != column ||
+                    row != NO_SOURCE && source / BoardUtils.NUM_TILES_PER_ROW != row){
+                continue;
+            }
+            //promotions come four to a source tile, each source only needs trying once
+            lastSource = source;
+            final MoveTransition transition = play(board, source, destination, promotionType);
+            if(transition != null){
+                if(played != null){
+                    throw new RuntimeException("Ambiguous SAN move " + san + " in " + FenUtilities.createFENFromGame(board));
+                }
+                played = transition;
+            }
+        }
+        if(played == null){
+            throw new RuntimeException("Illegal SAN move " + san + " in " + FenUtilities.createFENFromGame(board));
+        }
+        return played;
+    }
+
+    private static MoveTransition playCastle(final Board board, final String san, final boolean queenSide){
+        final int kingCoordinate = board.currentPlayer().getPlayerKing().getPiecePosition();
+        final MoveTransition transition = play(board, kingCoordinate, queenSide ? kingCoordinate - 2 : kingCoordinate + 2, null);
+        if(transition == null || !transition.getMove().isCastlingMove()){
+            throw new RuntimeException("Illegal SAN move " + san + " in " + FenUtilities.createFENFromGame(board));
+        }
+        return transition;
+    }
+
+    //null when the factory finds no such move or it leaves the king in check
+    private static MoveTransition play(final Board board, final int source, final int destination,
+                                       final PieceType promotionType){
+        final Move move = Move.MoveFactory.createMove(board, source, destination, promotionType);
+        if(move == Move.NULL_MOVE){
+            return null;
+        }
+        final MoveTransition transition = board.currentPlayer().makeMove(move);
+        return transition.getMoveStatus().isDone() ? transition : null;
+    }
+
+    //check, mate and annotation glyphs such as +, #, ! and ?
+    private static String stripSuffixes(final String san){
+        int end = san.length();
+        while(end > 0 && "+#!?".indexOf(san.charAt(end - 1)) >= 0){
+            end--;
+        }
+        if(end == 0){
+            throw new RuntimeException("Invalid SAN move: " + san);
+        }
+        return san.substring(0, end);
+    }
+
+    private static PieceType parsePieceType(final char pieceChar){
+        switch (pieceChar){
+            case 'N':
+                return PieceType.KNIGHT;
+            case 'B':
+                return PieceType.BISHOP;
+            case 'R':
+                return PieceType.ROOK;
+            case 'Q':
+                return PieceType.QUEEN;
+            case 'K':
+                return PieceType.KING;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isFile(final char c){
+        return c >= 'a' && c <= 'h';
+    }
+
+    private static boolean isRank(final char c){
+        return c >= '1' && c <= '8';
+    }
+
+    private static int coordinate(final char file, final char rank){
+        return ('8' - rank) * BoardUtils.NUM_TILES_PER_ROW + (file - 'a');
+    }
+}
@@ -4,70 +4,31 @@ import engine.Alliance;
 import engine.board.Board;
 import engine.board.BoardUtils;
 import engine.board.Move;
-import engine.board.Tile;
-import com.google.common.collect.ImmutableList;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 public class King extends Piece {
 
-    private final static int[] CANDIDATE_MOVE_COORDINATES = { -9, -8, -7, -1, 1, 7, 8, 9};
-
     public King(final int piecePosition, final Alliance pieceAllience) {
-        super(PieceType.KING, piecePosition, pieceAllience);
+        this(piecePosition, pieceAllience, true);
+    }
+
+    public King(final int piecePosition, final Alliance pieceAllience, final boolean isFirstMove) {
+        super(PieceType.KING, piecePosition, pieceAllience, isFirstMove);
     }
 
     @Override
     public Collection<Move> calculateLegalMoves(final Board board) {
-
-        final List<Move> legalMoves = new ArrayList<>();
-
-        for(final int currentCandidateOffset : CANDIDATE_MOVE_COORDINATES){
-
-            final int candidateDestinationCoordinate = this.piecePosition + currentCandidateOffset;
-            if(isFirstColumnExclusion(this.piecePosition, currentCandidateOffset) ||
-                    isEighthCulumnExclusion(this.piecePosition, currentCandidateOffset)){
-                continue;
-            }
-
-            if(BoardUtils.isValidTileCoordinate(candidateDestinationCoordinate)){
-                final Tile candidateDestinationTile = board.getTile(candidateDestinationCoordinate);
-
-                if(!candidateDestinationTile.isTileOccupied()){
-                    legalMoves.add(new Move.MajorMove(board, this, candidateDestinationCoordinate));
-                } else {
-                    final Piece pieceAtDestination = candidateDestinationTile.getPiece();
-                    final Alliance pieceAtDestinationAllience = pieceAtDestination.getPieceAlliance();
-
-                    if(this.pieceAlliance != pieceAtDestinationAllience) {
-                        legalMoves.add(new Move.AttackMove(board, this, candidateDestinationCoordinate, pieceAtDestination));
-                    }
-                }
-            }
-        }
-
-        return ImmutableList.copyOf(legalMoves);
+        return calculateMovesToTiles(board, BoardUtils.KING_ATTACKS[this.piecePosition]);
     }
 
     @Override
     public King movePiece(final Move move) {
-        return new King(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance());
+        return new King(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance(), false);
     }
 
     @Override
     public String toString(){
         return PieceType.KING.toString();
     }
-
-    private static boolean isFirstColumnExclusion(final int currentPosition, final int candidateOffset){
-        return BoardUtils.FIRST_COLUMN[currentPosition] && (candidateOffset == -9 || candidateOffset == -1 ||
-                candidateOffset == 7);
-    }
-
-    private static boolean isEighthCulumnExclusion(final int currentPosition, final int candidateOffset){
-        return BoardUtils.EIGHTH_COLUMN[currentPosition] && (candidateOffset == -7 || candidateOffset == 1 ||
-                candidateOffset == 9);
-    }
 }
@@ -1,9 +1,15 @@
 package engine.pieces;
 
 import engine.Alliance;
+import engine.board.BitBoard;
 import engine.board.Board;
 import engine.board.BoardUtils;
 import engine.board.Move;
+import engine.board.Move.PawnAttackMove;
+import engine.board.Move.PawnEnPassantAttackMove;
+import engine.board.Move.PawnJump;
+import engine.board.Move.PawnMove;
+import engine.board.Move.PawnPromotion;
 import com.google.common.collect.ImmutableList;
 
 import java.util.ArrayList;
@@ -12,64 +18,68 @@ import java.util.List;
 
 public class Pawn extends Piece {
 
-    private final static int[] CANDIDATE_MOVE_COORDINATES = {8, 16, 7, 9};
+    private final static PieceType[] PROMOTION_TYPES = {PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP, PieceType.KNIGHT};
 
     public Pawn(int piecePosition, final Alliance pieceAllience) {
-        super(PieceType.PAWN, piecePosition, pieceAllience);
+        this(piecePosition, pieceAllience, true);
+    }
+
+    public Pawn(int piecePosition, final Alliance pieceAllience, final boolean isFirstMove) {
+        super(PieceType.PAWN, piecePosition, pieceAllience, isFirstMove);
     }
 
     @Override
     public Collection<Move> calculateLegalMoves(final Board board) {
 
         final List<Move> legalMoves = new ArrayList<>();
-
-        for (final int currentCandidateOffset : CANDIDATE_MOVE_COORDINATES){
-            int candidateDestinationCoordinate = this.piecePosition + (this.getPieceAlliance().getDirection() * currentCandidateOffset);
-
-            if(!BoardUtils.isValidTileCoordinate(candidateDestinationCoordinate)){
-                continue;
+        final BitBoard bitBoard = board.getBitBoard();
+        final int allianceIndex = this.pieceAlliance.ordinal();
+        final long emptyTiles = bitBoard.getEmptyTiles();
+
+        final long pushTiles = BoardUtils.PAWN_PUSHES[allianceIndex][this.piecePosition] & emptyTiles;
+        if(pushTiles != BitBoard.EMPTY){
+            addPawnMove(legalMoves, new PawnMove(board, this, BitBoard.firstTile(pushTiles)));
+            final long jumpTiles = BoardUtils.PAWN_JUMPS[allianceIndex][this.piecePosition] & emptyTiles;
+            if(jumpTiles != BitBoard.EMPTY){
+                legalMoves.add(new PawnJump(board, this, BitBoard.firstTile(jumpTiles)));
             }
+        }
 
-            if(currentCandidateOffset == 8 && board.getTile(candidateDestinationCoordinate).isTileOccupied()){
-                legalMoves.add(new Move.MajorMove(board, this, candidateDestinationCoordinate));
-            } else if(currentCandidateOffset == 16 && this.isFirstMove() &&
-                    (BoardUtils.SEVENTH_RANK[this.piecePosition]) && this.getPieceAlliance().isBlack() ||
-                    (BoardUtils.SECOND_RANK[this.piecePosition]) && this.getPieceAlliance().isWhite()){
-                final int behindCandidateDestinationCoordinate = this.piecePosition + (this.pieceAlliance.getDirection() * 8);
-
-                if(!board.getTile(behindCandidateDestinationCoordinate).isTileOccupied() &&
-                        !board.getTile(candidateDestinationCoordinate).isTileOccupied()){
-                    legalMoves.add(new Move.MajorMove(board, this, candidateDestinationCoordinate));
-                }
-            } else if(currentCandidateOffset == 7 &&
-                    !((BoardUtils.EIGHTH_COLUMN[this.piecePosition] && this.pieceAlliance.isWhite()) ||
-                    (BoardUtils.FIRST_COLUMN[this.piecePosition] && this.pieceAlliance.isBlack()))){
-                if(board.getTile(candidateDestinationCoordinate).isTileOccupied()){
-                    final Piece pieceOnCandidate = board.getTile(candidateDestinationCoordinate).getPiece();
-
-                    if(this.pieceAlliance != pieceOnCandidate.getPieceAlliance()){
-                        legalMoves.add(new Move.MajorMove(board, this, candidateDestinationCoordinate));
-                    }
-                }
-            } else if(currentCandidateOffset == 9 &&
-                    !((BoardUtils.FIRST_COLUMN[this.piecePosition] && this.pieceAlliance.isWhite()) ||
-                    (BoardUtils.EIGHTH_COLUMN[this.piecePosition] && this.pieceAlliance.isBlack()))){
-                if(board.getTile(candidateDestinationCoordinate).isTileOccupied()){
-                    final Piece pieceOnCandidate = board.getTile(candidateDestinationCoordinate).getPiece();
-
-                    if(this.pieceAlliance != pieceOnCandidate.getPieceAlliance()){
-                        legalMoves.add(new Move.MajorMove(board, this, candidateDestinationCoordinate));
-                    }
-                }
+        final long attackedTiles = BoardUtils.PAWN_ATTACKS[allianceIndex][this.piecePosition];
+        long captureTiles = attackedTiles & bitBoard.getOccupancy() & ~bitBoard.getOccupancy(this.pieceAlliance);
+        while(captureTiles != BitBoard.EMPTY){
+            final int candidateDestinationCoordinate = BitBoard.firstTile(captureTiles);
+            addPawnMove(legalMoves, new PawnAttackMove(board, this, candidateDestinationCoordinate,
+                    board.getPiece(candidateDestinationCoordinate)));
+            captureTiles = BitBoard.clearFirstTile(captureTiles);
+        }
+
+        final Pawn enPassantPawn = board.getEnPassantPawn();
+        if(enPassantPawn != null && enPassantPawn.getPieceAlliance() != this.pieceAlliance){
+            final int enPassantCoordinate = enPassantPawn.getPiecePosition() -
+                    (enPassantPawn.getPieceAlliance().getDirection() * BoardUtils.NUM_TILES_PER_ROW);
+            if((attackedTiles & BitBoard.tileMask(enPassantCoordinate)) != 0){
+                legalMoves.add(new PawnEnPassantAttackMove(board, this, enPassantCoordinate, enPassantPawn));
             }
         }
 
         return ImmutableList.copyOf(legalMoves);
     }
 
+    private static void addPawnMove(final List<Move> legalMoves, final Move pawnMove){
+        final int destinationCoordinate = pawnMove.getDestinationCoordinate();
+        if(BoardUtils.EIGHTH_RANK[destinationCoordinate] || BoardUtils.FIRST_RANK[destinationCoordinate]){
+            for(final PieceType promotionType : PROMOTION_TYPES){
+                legalMoves.add(new PawnPromotion(pawnMove, promotionType));
+            }
+        } else {
+            legalMoves.add(pawnMove);
+        }
+    }
+
     @Override
     public Pawn movePiece(final Move move) {
-        return new Pawn(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance());
+        return new Pawn(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance(), false);
     }
 
     @Override
@@ -1,10 +1,16 @@
 package engine.pieces;
 
 import engine.Alliance;
+import com.google.common.collect.ImmutableList;
+import engine.board.BitBoard;
 import engine.board.Board;
 import engine.board.Move;
+import engine.board.Move.AttackMove;
+import engine.board.Move.MajorMove;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 public abstract class Piece {
 
@@ -14,11 +20,11 @@ public abstract class Piece {
     protected final PieceType pieceType;
     private final int cachedHashCode;
 
-    Piece(final PieceType pieceType, final int piecePosition, final Alliance pieceAllience){
+    Piece(final PieceType pieceType, final int piecePosition, final Alliance pieceAllience, final boolean isFirstMove){
         this.pieceType = pieceType;
         this.pieceAlliance = pieceAllience;
         this.piecePosition = piecePosition;
-        this.isFirstMove = false;
+        this.isFirstMove = isFirstMove;
         this.cachedHashCode = computeHashCode();
     }
 
@@ -66,11 +72,35 @@ public abstract class Piece {
 
     public abstract Collection<Move> calculateLegalMoves(final Board board);
 
+    protected Collection<Move> calculateMovesToTiles(final Board board, final long destinationTiles){
+        final List<Move> legalMoves = new ArrayList<>(BitBoard.countTiles(destinationTiles));
+        long candidateTiles = destinationTiles & ~board.getBitBoard().getOccupancy(this.pieceAlliance);
+
+        while(candidateTiles != BitBoard.EMPTY){
+            final int candidateDestinationCoordinate = BitBoard.firstTile(candidateTiles);
+            final Piece pieceAtDestination = board.getPiece(candidateDestinationCoordinate);
+
+            if(pieceAtDestination == null){
+                legalMoves.add(new MajorMove(board, this, candidateDestinationCoordinate));
+            } else {
+                legalMoves.add(new AttackMove(board, this, candidateDestinationCoordinate, pieceAtDestination));
+            }
+            candidateTiles = BitBoard.clearFirstTile(candidateTiles);
+        }
+
+        return ImmutableList.copyOf(legalMoves);
+    }
+
     public abstract Piece movePiece(Move move);
 
     public enum PieceType{
 
-        PAWN("P"){
+        PAWN("P", 100){
+            @Override
+            public Piece createPiece(final int piecePosition, final Alliance alliance, final boolean isFirstMove) {
+                return new Pawn(piecePosition, alliance, isFirstMove);
+            }
+
             @Override
             public boolean isKing(){
                 return false;
@@ -81,7 +111,12 @@ public abstract class Piece {
                 return false;
             }
         },
-        KNIGHT("N") {
+        KNIGHT("N", 320) {
+            @Override
+            public Piece createPiece(final int piecePosition, final Alliance alliance, final boolean isFirstMove) {
+                return new Knight(piecePosition, alliance, isFirstMove);
+            }
+
             @Override
             public boolean isKing() {
                 return false;
@@ -92,7 +127,12 @@ public abstract class Piece {
                 return false;
             }
         },
-        BISHOP("B") {
+        BISHOP("B", 330) {
+            @Override
+            public Piece createPiece(final int piecePosition, final Alliance alliance, final boolean isFirstMove) {
+                return new Bishop(piecePosition, alliance, isFirstMove);
+            }
+
             @Override
             public boolean isKing() {
                 return false;
@@ -103,7 +143,12 @@ public abstract class Piece {
                 return false;
             }
         },
-        ROOK("R") {
+        ROOK("R", 500) {
+            @Override
+            public Piece createPiece(final int piecePosition, final Alliance alliance, final boolean isFirstMove) {
+                return new Rook(piecePosition, alliance, isFirstMove);
+            }
+
             @Override
             public boolean isKing() {
                 return false;
@@ -114,7 +159,12 @@ public abstract class Piece {
                 return true;
             }
         },
-        QUEEN("Q") {
+        QUEEN("Q", 900) {
+            @Override
+            public Piece createPiece(final int piecePosition, final Alliance alliance, final boolean isFirstMove) {
+                return new Queen(piecePosition, alliance, isFirstMove);
+            }
+
             @Override
             public boolean isKing() {
                 return false;
@@ -125,7 +175,12 @@ public abstract class Piece {
                 return false;
             }
         },
-        KING("K") {
+        KING("K", 20000) {
+            @Override
+            public Piece createPiece(final int piecePosition, final Alliance alliance, final boolean isFirstMove) {
+                return new King(piecePosition, alliance, isFirstMove);
+            }
+
             @Override
             public boolean isKing() {
                 return true;
@@ -138,9 +193,15 @@ public abstract class Piece {
         };
 
         private String pieceName;
+        private int pieceValue;
 
-        PieceType(final String pieceName){
+        PieceType(final String pieceName, final int pieceValue){
             this.pieceName = pieceName;
+            this.pieceValue = pieceValue;
+        }
+
+        public int getPieceValue(){
+            return this.pieceValue;
         }
 
         @Override
@@ -150,5 +211,6 @@ public abstract class Piece {
 
         public abstract boolean isKing();
         public abstract boolean isRook();
+        public abstract Piece createPiece(int piecePosition, Alliance alliance, boolean isFirstMove);
     }
 }
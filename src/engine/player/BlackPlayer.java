@@ -5,6 +5,7 @@ import engine.board.Move;
 import engine.board.Move.KingSideCastleMove;
 import engine.board.Move.QueenSideCastleMove;
 import engine.board.Tile;
+import com.google.common.base.Supplier;
 import com.google.common.collect.ImmutableList;
 import engine.Alliance;
 import engine.pieces.Piece;
@@ -16,8 +17,8 @@ import java.util.List;
 
 public class BlackPlayer extends Player{
 
-    public BlackPlayer(final Board board, final Collection<Move> whiteStandardLegalMoves, final Collection<Move> blackStandardLegalMoves) {
-        super(board, blackStandardLegalMoves, whiteStandardLegalMoves);
+    public BlackPlayer(final Board board, final Supplier<Collection<Move>> blackStandardLegalMoves) {
+        super(board, blackStandardLegalMoves);
     }
 
     @Override
@@ -36,7 +37,7 @@ public class BlackPlayer extends Player{
     }
 
     @Override
-    protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals, final Collection<Move> opponentsLegals) {
+    protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals) {
 
         final List<Move> kingCastles = new ArrayList<>();
 
@@ -44,8 +45,7 @@ public class BlackPlayer extends Player{
             if(!this.board.getTile(5).isTileOccupied() && !this.board.getTile(6).isTileOccupied()){
                 final Tile rookTile = this.board.getTile(7);
                 if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()){
-                    if(Player.calculateAttacksOnTile(5, opponentsLegals).isEmpty() &&
-                            Player.calculateAttacksOnTile(6, opponentsLegals).isEmpty() &&
+                    if(!isTileAttacked(5) && !isTileAttacked(6) &&
                             rookTile.getPiece().getPieceType().isRook()){
                         kingCastles.add(new KingSideCastleMove(this.board, this.playerKing, 6,
                                 (Rook)rookTile.getPiece(), rookTile.getTileCoordinate(), 5));
@@ -54,8 +54,8 @@ public class BlackPlayer extends Player{
             }
             if(!this.board.getTile(1).isTileOccupied() && !this.board.getTile(2).isTileOccupied() && !this.board.getTile(3).isTileOccupied()){
                 final Tile rookTile = this.board.getTile(0);
-                if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove() && Player.calculateAttacksOnTile(2, opponentsLegals).isEmpty() &&
-                        Player.calculateAttacksOnTile(3, opponentsLegals).isEmpty() && rookTile.getPiece().getPieceType().isRook()){
+                if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove() && !isTileAttacked(2) &&
+                        !isTileAttacked(3) && rookTile.getPiece().getPieceType().isRook()){
                     kingCastles.add(new QueenSideCastleMove(this.board, this.playerKing, 2,
                             (Rook)rookTile.getPiece(), rookTile.getTileCoordinate(), 3));
                 }
@@ -1,47 +1,53 @@
 package engine.player;
 
 import engine.board.Board;
+import engine.board.LegalMoveGenerator;
 import engine.board.Move;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import engine.Alliance;
 import engine.pieces.King;
 import engine.pieces.Piece;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 public abstract class Player {
 
     protected final Board board;
     protected final King playerKing;
-    protected final Collection<Move> legalMoves;
-    private final boolean isInCheck;
+    private final Supplier<Collection<Move>> pseudoLegalMoves;
+    private final Supplier<LegalMoveGenerator> legalMoveGenerator;
+    private final Supplier<Collection<Move>> legalMoves;
+    private final Supplier<Boolean> isInCheck;
 
-    Player(final Board board, final Collection<Move> legalMoves, final Collection<Move> opponentMoves){
+    Player(final Board board, final Supplier<Collection<Move>> legalMoves){
         this.board = board;
         this.playerKing = establishKing();
-        this.legalMoves = ImmutableList.copyOf(Iterables.concat(legalMoves, calculateKingCastles(legalMoves, opponentMoves)));
-        this.isInCheck = !Player.calculateAttacksOnTile(this.playerKing.getPiecePosition(), opponentMoves).isEmpty();
+        this.pseudoLegalMoves = Suppliers.memoize(() -> ImmutableList.copyOf(Iterables.concat(legalMoves.get(),
+                calculateKingCastles(legalMoves.get()))));
+        this.legalMoveGenerator = Suppliers.memoize(() -> new LegalMoveGenerator(this.board, getAlliance()));
+        this.legalMoves = Suppliers.memoize(() -> this.legalMoveGenerator.get().generateLegalMoves(this.pseudoLegalMoves.get()));
+        this.isInCheck = Suppliers.memoize(() -> isTileAttacked(this.playerKing.getPiecePosition()));
     }
 
     public King getPlayerKing(){
         return this.playerKing;
     }
 
+    //only moves that do not leave the king in check
     public Collection<Move> getLegalMoves(){
-        return null;
+        return this.legalMoves.get();
     }
 
-    protected static Collection<Move> calculateAttacksOnTile(int piecePosition, Collection<Move> moves) {
-        final List<Move> attackMoves = new ArrayList<>();
-        for(final Move move : moves){
-            if(piecePosition == move.getDestinationCoordinate()){
-                attackMoves.add(move);
-            }
-        }
-        return ImmutableList.copyOf(attackMoves);
+    //every move the pieces can make, including ones that leave the king in check
+    public Collection<Move> getPseudoLegalMoves(){
+        return this.pseudoLegalMoves.get();
+    }
+
+    protected boolean isTileAttacked(final int tileCoordinate){
+        return this.board.getBitBoard().isTileAttacked(tileCoordinate, getAlliance().getOpposite());
     }
 
     private King establishKing(){
@@ -54,53 +60,42 @@ public abstract class Player {
     }
 
     public boolean isMoveLegal(final Move move){
-        return this.legalMoves.contains(move);
+        return getPseudoLegalMoves().contains(move) && this.legalMoveGenerator.get().isLegal(move);
     }
 
     public boolean isInCheck(){
-        return this.isInCheck;
+        return this.isInCheck.get();
     }
 
     public boolean isInCheckMate(){
-        return this.isInCheck && !hasEscapeMoves();
+        return isInCheck() && !hasEscapeMoves();
     }
 
     public boolean isInStaleMate(){
-        return !this.isInCheck && !hasEscapeMoves();
+        return !isInCheck() && !hasEscapeMoves();
     }
 
     protected boolean hasEscapeMoves(){
-        for(final Move move : this.legalMoves){
-            final MoveTransition transition = makeMove(move);
-            if(transition.getMoveStatus().isDone()){
-                return true;
-            }
-        }
-        return false;
+        return !getLegalMoves().isEmpty();
     }
 
     public boolean isCastled(){
         return false;
     }
 
+    //legality is decided on this board, only a move that is played gets a new board built
     public MoveTransition makeMove(final Move move){
-        if(!isMoveLegal(move)){
+        if(!getPseudoLegalMoves().contains(move)){
             return new MoveTransition(this.board, move, MoveStatus.ILLEGAL_MOVE);
         }
-
-        final Board transitionBoard = move.execute();
-
-        final Collection<Move> kingAttacks = Player.calculateAttacksOnTile(transitionBoard.currentPlayer().getOpponent().getPlayerKing().getPiecePosition(),
-                transitionBoard.currentPlayer().getLegalMoves());
-
-        if(!kingAttacks.isEmpty()){
+        if(!this.legalMoveGenerator.get().isLegal(move)){
             return new MoveTransition(this.board, move, MoveStatus.LEAVES_PLAYER_IN_CHECK);
         }
-        return new MoveTransition(transitionBoard, move, MoveStatus.DONE);
+        return new MoveTransition(move.execute(), move, MoveStatus.DONE);
     }
 
     public abstract Collection<Piece> getActivePieces();
     public abstract Alliance getAlliance();
     public abstract Player getOpponent();
-    protected abstract Collection<Move> calculateKingCastles(Collection<Move> playerLegals, Collection<Move> opponentsLegals);
+    protected abstract Collection<Move> calculateKingCastles(Collection<Move> playerLegals);
 }
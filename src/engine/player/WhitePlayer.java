@@ -5,6 +5,7 @@ import engine.board.Move;
 import engine.board.Move.KingSideCastleMove;
 import engine.board.Move.QueenSideCastleMove;
 import engine.board.Tile;
+import com.google.common.base.Supplier;
 import com.google.common.collect.ImmutableList;
 import engine.Alliance;
 import engine.pieces.Piece;
@@ -16,8 +17,8 @@ import java.util.List;
 
 public class WhitePlayer extends Player{
 
-    public WhitePlayer(final Board board, final Collection<Move> whiteStandardLegalMoves, final Collection<Move> blackStandardLegalMoves) {
-        super(board, whiteStandardLegalMoves, blackStandardLegalMoves);
+    public WhitePlayer(final Board board, final Supplier<Collection<Move>> whiteStandardLegalMoves) {
+        super(board, whiteStandardLegalMoves);
     }
 
     @Override
@@ -36,7 +37,7 @@ public class WhitePlayer extends Player{
     }
 
     @Override
-    protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals, final Collection<Move> opponentsLegals) {
+    protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals) {
 
         final List<Move> kingCastles = new ArrayList<>();
 
@@ -44,8 +45,7 @@ public class WhitePlayer extends Player{
             if(!this.board.getTile(61).isTileOccupied() && !this.board.getTile(62).isTileOccupied()){
                 final Tile rookTile = this.board.getTile(63);
                 if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()){
-                    if(Player.calculateAttacksOnTile(61, opponentsLegals).isEmpty() &&
-                            Player.calculateAttacksOnTile(62, opponentsLegals).isEmpty() &&
+                    if(!isTileAttacked(61) && !isTileAttacked(62) &&
                             rookTile.getPiece().getPieceType().isRook()){
                         kingCastles.add(new KingSideCastleMove(this.board, this.playerKing, 62,
                                 (Rook)rookTile.getPiece(), rookTile.getTileCoordinate(), 61));
@@ -55,8 +55,8 @@ public class WhitePlayer extends Player{
             if(!this.board.getTile(59).isTileOccupied() && !this.board.getTile(58).isTileOccupied() &&
                     !this.board.getTile(57).isTileOccupied()){
                 final Tile rookTile = this.board.getTile(56);
-                if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove() && Player.calculateAttacksOnTile(58, opponentsLegals).isEmpty() &&
-                        Player.calculateAttacksOnTile(59, opponentsLegals).isEmpty() && rookTile.getPiece().getPieceType().isRook()){
+                if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove() && !isTileAttacked(58) &&
+                        !isTileAttacked(59) && rookTile.getPiece().getPieceType().isRook()){
                     kingCastles.add(new QueenSideCastleMove(this.board, this.playerKing, 58,
                             (Rook)rookTile.getPiece(), rookTile.getTileCoordinate(), 59));
                 }
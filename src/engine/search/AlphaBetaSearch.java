@@ -0,0 +1,330 @@
+package engine.search;
+
+import engine.board.Board;
+import engine.board.BoardUtils;
+import engine.board.Move;
+import engine.board.MoveEncoding;
+import engine.board.MoveGenerator;
+import engine.board.SearchBoard;
+import engine.pieces.Piece.PieceType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class AlphaBetaSearch {
+
+    public static final int MAX_PLY = 128;
+    public static final int INFINITE = 32000;
+    public static final int MATE = 31000;
+
+    //nodes between two looks at the clock
+    private static final int BUDGET_CHECK_INTERVAL = 1024;
+
+    private final BoardEvaluator evaluator;
+    private final TranspositionTable transpositionTable;
+
+    private final int[][] principalVariation;
+    private final int[] principalVariationLength;
+    private final long[] pathKeys;
+    private final MovePicker[] movePickers;
+    private final StaticExchange staticExchange;
+    private final int[][] killerMoves;
+    private final int[][] history;
+
+    private volatile AtomicBoolean stopSignal;
+    private boolean aborted;
+    private long nodes;
+    private long nodeLimit;
+    private long deadline;
+
+    public AlphaBetaSearch(final BoardEvaluator evaluator, final TranspositionTable transpositionTable){
+        this.evaluator = evaluator;
+        this.transpositionTable = transpositionTable;
+        this.principalVariation = new int[MAX_PLY][MAX_PLY];
+        this.principalVariationLength = new int[MAX_PLY];
+        this.pathKeys = new long[MAX_PLY];
+        this.killerMoves = new int[MAX_PLY][2];
+        this.history = new int[2 * PieceType.values().length][BoardUtils.NUM_TILES];
+        this.staticExchange = new StaticExchange();
+        this.stopSignal = new AtomicBoolean();
+        this.movePickers = new MovePicker[MAX_PLY];
+        for(int i = 0; i < MAX_PLY; i++){
+            this.movePickers[i] = new MovePicker(this.history);
+        }
+    }
+
+    public SearchResult search(final Board board, final SearchLimits limits){
+        return search(board, limits, new AtomicBoolean());
+    }
+
+    //the caller owns the signal, so a stop raised before the search has even started is not lost
+    public SearchResult search(final Board board, final SearchLimits limits, final AtomicBoolean stopSignal){
+        this.transpositionTable.newSearch();
+        return search(board, limits, 1, stopSignal);
+    }
+
+    //the caller ages the shared table once per search
+    SearchResult search(final Board board, final SearchLimits limits, final int startDepth, final AtomicBoolean stopSignal){
+        final long start = System.nanoTime();
+        this.stopSignal = stopSignal;
+        this.aborted = false;
+        this.nodes = 0;
+        this.nodeLimit = limits.getMaxNodes();
+        this.deadline = limits.hasTimeLimit() ? start + limits.getMaxTimeMillis() * 1_000_000L : Long.MAX_VALUE;
+        prepareMoveOrdering();
+
+        final SearchBoard searchBoard = new SearchBoard(board);
+        SearchResult result = null;
+        for(int depth = Math.min(startDepth, limits.getMaxDepth()); depth <= limits.getMaxDepth(); depth++){
+            final int score = negamax(searchBoard, depth, -INFINITE, INFINITE, 0);
+            if(this.aborted && result != null){
+                break;
+            }
+            result = new SearchResult(toMoves(board, this.principalVariation[0], this.principalVariationLength[0]),
+                    score, depth, this.nodes, System.nanoTime() - start);
+            if(this.aborted || result.isMateScore()){
+                break;
+            }
+        }
+        if(result.getPrincipalVariation().isEmpty()){
+            result = fallbackResult(board, result, start);
+        }
+        return result;
+    }
+
+    public void stop(){
+        this.stopSignal.set(true);
+    }
+
+    public long getNodes(){
+        return this.nodes;
+    }
+
+    private int negamax(final SearchBoard board, final int depth, int alpha, final int beta, final int ply){
+        this.principalVariationLength[ply] = 0;
+        if((++this.nodes & (BUDGET_CHECK_INTERVAL - 1)) == 0){
+            checkBudget();
+        }
+        if(this.aborted){
+            return 0;
+        }
+
+        final long key = board.zobristKey();
+        if(ply > 0 && isRepetition(key, ply)){
+            return 0;
+        }
+        this.pathKeys[ply] = key;
+        if(depth <= 0 || ply >= MAX_PLY - 1){
+            return quiescence(board, alpha, beta, ply);
+        }
+
+        int hashMove = MoveEncoding.NONE;
+        final long entry = this.transpositionTable.probe(key);
+        if(entry != TranspositionTable.NO_ENTRY){
+            hashMove = TranspositionTable.getMove(entry);
+            if(ply > 0 && TranspositionTable.getDepth(entry) >= depth){
+                final int hashScore = scoreFromTable(TranspositionTable.getScore(entry), ply);
+                final int bound = TranspositionTable.getBound(entry);
+                if(bound == TranspositionTable.EXACT ||
+                        (bound == TranspositionTable.LOWER_BOUND && hashScore >= beta) ||
+                        (bound == TranspositionTable.UPPER_BOUND && hashScore <= alpha)){
+                    return hashScore;
+                }
+            }
+        }
+
+        final MovePicker movePicker = this.movePickers[ply];
+        movePicker.init(board, hashMove, this.killerMoves[ply][0], this.killerMoves[ply][1]);
+
+        final int originalAlpha = alpha;
+        int bestScore = -INFINITE;
+        int bestMove = MoveEncoding.NONE;
+        int legalMoves = 0;
+        int move;
+        while((move = movePicker.next()) != MoveEncoding.NONE){
+            board.makeMove(move);
+            if(board.isKingAttacked(board.getSideToMove().getOpposite())){
+                board.unmakeMove();
+                continue;
+            }
+            legalMoves++;
+            final int score = -negamax(board, depth - 1, -beta, -alpha, ply + 1);
+            board.unmakeMove();
+            if(this.aborted){
+                return 0;
+            }
+            if(score > bestScore){
+                bestScore = score;
+                bestMove = move;
+                if(score > alpha){
+                    alpha = score;
+                    updatePrincipalVariation(ply, move);
+                    if(alpha >= beta){
+                        if(!MoveEncoding.isCapture(move) && !MoveEncoding.isPromotion(move)){
+                            updateQuietCutoff(move, depth, ply);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+
+        if(legalMoves == 0){
+            return board.isInCheck() ? -MATE + ply : 0;
+        }
+
+        final int bound = bestScore >= beta ? TranspositionTable.LOWER_BOUND :
+                bestScore > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER_BOUND;
+        this.transpositionTable.store(key, bestMove, scoreToTable(bestScore, ply), depth, bound);
+        return bestScore;
+    }
+
+    //captures only until the position is quiet, every move when in check so mates are still seen
+    private int quiescence(final SearchBoard board, int alpha, final int beta, final int ply){
+        if((++this.nodes & (BUDGET_CHECK_INTERVAL - 1)) == 0){
+            checkBudget();
+        }
+        if(this.aborted){
+            return 0;
+        }
+        final boolean inCheck = board.isInCheck();
+        if(ply >= MAX_PLY - 1){
+            return inCheck ? 0 : this.evaluator.evaluate(board);
+        }
+
+        int bestScore = -INFINITE;
+        final MovePicker movePicker = this.movePickers[ply];
+        if(inCheck){
+            movePicker.init(board, MoveEncoding.NONE, MoveEncoding.NONE, MoveEncoding.NONE);
+        } else {
+            bestScore = this.evaluator.evaluate(board);
+            if(bestScore >= beta){
+                return bestScore;
+            }
+            alpha = Math.max(alpha, bestScore);
+            movePicker.initCaptures(board);
+        }
+
+        int legalMoves = 0;
+        int move;
+        while((move = movePicker.next()) != MoveEncoding.NONE){
+            //losing captures and underpromotions are never worth it this close to the horizon
+            if(!inCheck && (isUnderPromotion(move) || this.staticExchange.isLosing(board, move))){
+                continue;
+            }
+            board.makeMove(move);
+            if(board.isKingAttacked(board.getSideToMove().getOpposite())){
+                board.unmakeMove();
+                continue;
+            }
+            legalMoves++;
+            final int score = -quiescence(board, -beta, -alpha, ply + 1);
+            board.unmakeMove();
+            if(this.aborted){
+                return 0;
+            }
+            if(score > bestScore){
+                bestScore = score;
+                if(score > alpha){
+                    alpha = score;
+                    if(alpha >= beta){
+                        break;
+                    }
+                }
+            }
+        }
+        if(inCheck && legalMoves == 0){
+            return -MATE + ply;
+        }
+        return bestScore;
+    }
+
+    private static boolean isUnderPromotion(final int move){
+        return MoveEncoding.isPromotion(move) && MoveEncoding.getPromotionType(move) != PieceType.QUEEN;
+    }
+
+    private void checkBudget(){
+        if(this.stopSignal.get() || this.nodes >= this.nodeLimit || System.nanoTime() >= this.deadline){
+            this.aborted = true;
+        }
+    }
+
+    private boolean isRepetition(final long key, final int ply){
+        for(int i = ply - 2; i >= 0; i -= 2){
+            if(this.pathKeys[i] == key){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void updatePrincipalVariation(final int ply, final int move){
+        this.principalVariation[ply][0] = move;
+        System.arraycopy(this.principalVariation[ply + 1], 0, this.principalVariation[ply], 1, this.principalVariationLength[ply + 1]);
+        this.principalVariationLength[ply] = this.principalVariationLength[ply + 1] + 1;
+    }
+
+    private void prepareMoveOrdering(){
+        for(final int[] killers : this.killerMoves){
+            killers[0] = MoveEncoding.NONE;
+            killers[1] = MoveEncoding.NONE;
+        }
+        //keep some history from the previous search but let the new position dominate
+        for(final int[] pieceHistory : this.history){
+            for(int i = 0; i < pieceHistory.length; i++){
+                pieceHistory[i] /= 2;
+            }
+        }
+    }
+
+    private void updateQuietCutoff(final int move, final int depth, final int ply){
+        final int[] killers = this.killerMoves[ply];
+        if(killers[0] != move){
+            killers[1] = killers[0];
+            killers[0] = move;
+        }
+        this.history[MoveEncoding.getMovedPiece(move)][MoveEncoding.getTo(move)] += depth * depth;
+    }
+
+    //moves only become objects here, on the way out of the search
+    private static List<Move> toMoves(final Board board, final int[] moves, final int moveCount){
+        final List<Move> principalVariation = new ArrayList<>(moveCount);
+        Board position = board;
+        for(int i = 0; i < moveCount; i++){
+            final Move move = MoveEncoding.toMove(position, moves[i]);
+            principalVariation.add(move);
+            position = move.execute();
+        }
+        return principalVariation;
+    }
+
+    private SearchResult fallbackResult(final Board board, final SearchResult result, final long start){
+        final int[] moves = new int[MoveGenerator.MAX_MOVES];
+        if(MoveGenerator.generateLegalMoves(new SearchBoard(board), moves) == 0){
+            return result;
+        }
+        return new SearchResult(toMoves(board, moves, 1), result.getScore(), result.getDepth(), this.nodes,
+                System.nanoTime() - start);
+    }
+
+    //mate scores are stored relative to the node so they stay valid when reached through another path
+    private static int scoreToTable(final int score, final int ply){
+        return score >= MATE - MAX_PLY ? score + ply : score <= -MATE + MAX_PLY ? score - ply : score;
+    }
+
+    private static int scoreFromTable(final int score, final int ply){
+        return score >= MATE - MAX_PLY ? score - ply : score <= -MATE + MAX_PLY ? score + ply : score;
+    }
+
+    static String principalVariationText(final List<Move> principalVariation){
+        final StringBuilder builder = new StringBuilder();
+        for(final Move move : principalVariation){
+            if(builder.length() > 0){
+                builder.append(' ');
+            }
+            builder.append(move.getCoordinateNotation());
+        }
+        return builder.toString();
+    }
+}
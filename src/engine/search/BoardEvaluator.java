@@ -0,0 +1,9 @@
+package engine.search;
+
+import engine.board.SearchBoard;
+
+public interface BoardEvaluator {
+
+    //score in centipawns from the point of view of the side to move
+    int evaluate(SearchBoard board);
+}
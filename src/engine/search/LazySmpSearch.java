@@ -0,0 +1,94 @@
+package engine.search;
+
+import engine.board.Board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+public class LazySmpSearch {
+
+    private final TranspositionTable transpositionTable;
+    private final AlphaBetaSearch mainSearch;
+    private final List<AlphaBetaSearch> helperSearches;
+    private final ExecutorService helperExecutor;
+    private volatile AtomicBoolean stopSignal;
+
+    //every thread gets its own evaluator so evaluation caches need no locking
+    public LazySmpSearch(final int helperThreads, final Supplier<? extends BoardEvaluator> evaluatorFactory,
+                         final TranspositionTable transpositionTable){
+        if(helperThreads < 0){
+            throw new IllegalArgumentException("Helper thread count cannot be negative: " + helperThreads);
+        }
+        this.transpositionTable = transpositionTable;
+        this.mainSearch = new AlphaBetaSearch(evaluatorFactory.get(), transpositionTable);
+        this.helperSearches = new ArrayList<>();
+        for(int i = 0; i < helperThreads; i++){
+            this.helperSearches.add(new AlphaBetaSearch(evaluatorFactory.get(), transpositionTable));
+        }
+        this.stopSignal = new AtomicBoolean();
+        this.helperExecutor = helperThreads == 0 ? null : Executors.newFixedThreadPool(helperThreads, runnable -> {
+            final Thread thread = new Thread(runnable, "lazy-smp-helper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SearchResult search(final Board board, final SearchLimits limits){
+        final long start = System.nanoTime();
+        this.transpositionTable.newSearch();
+        //shared by every thread and created before any helper is submitted, so a helper that starts late still sees it raised
+        final AtomicBoolean stopSignal = new AtomicBoolean();
+        this.stopSignal = stopSignal;
+        final List<Future<SearchResult>> helperResults = new ArrayList<>();
+        for(int i = 0; i < this.helperSearches.size(); i++){
+            final AlphaBetaSearch helper = this.helperSearches.get(i);
+            //helpers 0, 2, 4... start one ply deeper than the main thread, so even a single helper works a different depth
+            final int startDepth = 1 + (i + 1) % 2;
+            helperResults.add(this.helperExecutor.submit(() -> helper.search(board, limits, startDepth, stopSignal)));
+        }
+
+        SearchResult best = this.mainSearch.search(board, limits, 1, stopSignal);
+        long nodes = best.getNodes();
+        stopSignal.set(true);
+        for(final Future<SearchResult> helperResult : helperResults){
+            final SearchResult result = waitFor(helperResult);
+            nodes += result.getNodes();
+            if(result.getDepth() > best.getDepth() && !result.getPrincipalVariation().isEmpty()){
+                best = result;
+            }
+        }
+        return new SearchResult(best.getPrincipalVariation(), best.getScore(), best.getDepth(), nodes, System.nanoTime() - start);
+    }
+
+    public void stop(){
+        this.stopSignal.set(true);
+    }
+
+    public int getThreadCount(){
+        return this.helperSearches.size() + 1;
+    }
+
+    public void shutdown(){
+        stop();
+        if(this.helperExecutor != null){
+            this.helperExecutor.shutdownNow();
+        }
+    }
+
+    private static SearchResult waitFor(final Future<SearchResult> helperResult){
+        try {
+            return helperResult.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for helper threads", e);
+        } catch (final ExecutionException e) {
+            throw new RuntimeException("Helper search failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package engine.search;
+
+import engine.Alliance;
+import engine.board.BitBoard;
+import engine.board.SearchBoard;
+import engine.pieces.Piece.PieceType;
+
+public class MaterialEvaluator implements BoardEvaluator {
+
+    @Override
+    public int evaluate(final SearchBoard board) {
+        int score = 0;
+        for(final PieceType pieceType : PieceType.values()){
+            if(!pieceType.isKing()){
+                score += pieceType.getPieceValue() * (BitBoard.countTiles(board.getPieces(Alliance.WHITE, pieceType)) -
+                        BitBoard.countTiles(board.getPieces(Alliance.BLACK, pieceType)));
+            }
+        }
+        return board.getSideToMove().isWhite() ? score : -score;
+    }
+}
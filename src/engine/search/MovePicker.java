@@ -0,0 +1,150 @@
+package engine.search;
+
+import engine.board.BitBoard;
+import engine.board.MoveEncoding;
+import engine.board.MoveGenerator;
+import engine.board.SearchBoard;
+import engine.pieces.Piece.PieceType;
+
+final class MovePicker {
+
+    private static final int HASH_MOVE = 0;
+    private static final int GENERATE_CAPTURES = 1;
+    private static final int CAPTURES = 2;
+    private static final int FIRST_KILLER = 3;
+    private static final int SECOND_KILLER = 4;
+    private static final int GENERATE_QUIETS = 5;
+    private static final int QUIETS = 6;
+    private static final int DONE = 7;
+
+    private final int[] moves;
+    private final int[] scores;
+    private final int[][] history;
+
+    private SearchBoard board;
+    private int hashMove;
+    private int firstKiller;
+    private int secondKiller;
+    private boolean capturesOnly;
+    private int stage;
+    private int index;
+    private int count;
+
+    MovePicker(final int[][] history){
+        this.moves = new int[MoveGenerator.MAX_MOVES];
+        this.scores = new int[MoveGenerator.MAX_MOVES];
+        this.history = history;
+    }
+
+    void init(final SearchBoard board, final int hashMove, final int firstKiller, final int secondKiller){
+        this.board = board;
+        this.hashMove = hashMove;
+        this.firstKiller = firstKiller;
+        this.secondKiller = secondKiller;
+        this.capturesOnly = false;
+        this.stage = HASH_MOVE;
+        this.index = 0;
+        this.count = 0;
+    }
+
+    //captures and promotions only, for the quiescence search
+    void initCaptures(final SearchBoard board){
+        init(board, MoveEncoding.NONE, MoveEncoding.NONE, MoveEncoding.NONE);
+        this.capturesOnly = true;
+        this.stage = GENERATE_CAPTURES;
+    }
+
+    //pseudo legal moves in search order, NONE once every stage is exhausted
+    int next(){
+        while(true){
+            switch (this.stage){
+                case HASH_MOVE:
+                    this.stage = GENERATE_CAPTURES;
+                    if(MoveGenerator.isPseudoLegal(this.board, this.hashMove)){
+                        return this.hashMove;
+                    }
+                    break;
+                case GENERATE_CAPTURES:
+                    this.count = MoveGenerator.generateCaptures(this.board, this.moves, 0);
+                    this.index = 0;
+                    for(int i = 0; i < this.count; i++){
+                        this.scores[i] = mostValuableVictimLeastValuableAttacker(this.moves[i]);
+                    }
+                    this.stage = CAPTURES;
+                    break;
+                case CAPTURES:
+                    if(this.index < this.count){
+                        final int move = selectBest();
+                        if(move != this.hashMove){
+                            return move;
+                        }
+                        break;
+                    }
+                    this.stage = this.capturesOnly ? DONE : FIRST_KILLER;
+                    break;
+                case FIRST_KILLER:
+                    this.stage = SECOND_KILLER;
+                    if(isPlayableKiller(this.firstKiller)){
+                        return this.firstKiller;
+                    }
+                    break;
+                case SECOND_KILLER:
+                    this.stage = GENERATE_QUIETS;
+                    if(this.secondKiller != this.firstKiller && isPlayableKiller(this.secondKiller)){
+                        return this.secondKiller;
+                    }
+                    break;
+                case GENERATE_QUIETS:
+                    this.count = MoveGenerator.generateQuiets(this.board, this.moves, 0);
+                    this.index = 0;
+                    for(int i = 0; i < this.count; i++){
+                        this.scores[i] = this.history[MoveEncoding.getMovedPiece(this.moves[i])][MoveEncoding.getTo(this.moves[i])];
+                    }
+                    this.stage = QUIETS;
+                    break;
+                case QUIETS:
+                    if(this.index < this.count){
+                        final int move = selectBest();
+                        if(move != this.hashMove && move != this.firstKiller && move != this.secondKiller){
+                            return move;
+                        }
+                        break;
+                    }
+                    this.stage = DONE;
+                    break;
+                default:
+                    return MoveEncoding.NONE;
+            }
+        }
+    }
+
+    //killers are quiet moves only, captures were already tried in their own stage
+    private boolean isPlayableKiller(final int killer){
+        return killer != this.hashMove && !MoveEncoding.isCapture(killer) && !MoveEncoding.isPromotion(killer) &&
+                MoveGenerator.isPseudoLegal(this.board, killer);
+    }
+
+    //selection sort step, cheap since a cutoff usually comes after a few moves
+    private int selectBest(){
+        int best = this.index;
+        for(int i = this.index + 1; i < this.count; i++){
+            if(this.scores[i] > this.scores[best]){
+                best = i;
+            }
+        }
+        final int move = this.moves[best];
+        this.moves[best] = this.moves[this.index];
+        this.scores[best] = this.scores[this.index];
+        this.index++;
+        return move;
+    }
+
+    static int mostValuableVictimLeastValuableAttacker(final int move){
+        final int capturedCode = MoveEncoding.getCapturedPiece(move);
+        final PieceType promotionType = MoveEncoding.getPromotionType(move);
+        final int victimValue = capturedCode == SearchBoard.NO_PIECE ? 0 : BitBoard.pieceTypeOf(capturedCode).getPieceValue();
+        final int promotionValue = promotionType == null ? 0 : promotionType.getPieceValue();
+        return (victimValue + promotionValue) * PieceType.values().length -
+                BitBoard.pieceTypeOf(MoveEncoding.getMovedPiece(move)).ordinal();
+    }
+}
@@ -0,0 +1,62 @@
+package engine.search;
+
+import engine.Alliance;
+import engine.board.BitBoard;
+import engine.board.SearchBoard;
+import engine.pieces.Piece.PieceType;
+
+public class NnueEvaluator implements BoardEvaluator, SearchBoard.PieceListener {
+
+    private final NnueNetwork network;
+    private final short[] whiteAccumulator;
+    private final short[] blackAccumulator;
+    private final long[] pieceSets;
+
+    private SearchBoard board;
+
+    //the network is shared between threads, the accumulators belong to this evaluator's search thread
+    public NnueEvaluator(final NnueNetwork network){
+        this.network = network;
+        this.whiteAccumulator = new short[network.getHiddenSize()];
+        this.blackAccumulator = new short[network.getHiddenSize()];
+        this.pieceSets = new long[2 * PieceType.values().length];
+    }
+
+    @Override
+    public int evaluate(final SearchBoard board) {
+        if(board != this.board){
+            attach(board);
+        }
+        return board.getSideToMove().isWhite() ?
+                this.network.evaluate(this.whiteAccumulator, this.blackAccumulator) :
+                this.network.evaluate(this.blackAccumulator, this.whiteAccumulator);
+    }
+
+    @Override
+    public void piecePlaced(final int pieceCode, final int tileCoordinate) {
+        this.network.addFeature(this.whiteAccumulator, NnueNetwork.featureIndex(Alliance.WHITE, pieceCode, tileCoordinate));
+        this.network.addFeature(this.blackAccumulator, NnueNetwork.featureIndex(Alliance.BLACK, pieceCode, tileCoordinate));
+    }
+
+    @Override
+    public void pieceRemoved(final int pieceCode, final int tileCoordinate) {
+        this.network.removeFeature(this.whiteAccumulator, NnueNetwork.featureIndex(Alliance.WHITE, pieceCode, tileCoordinate));
+        this.network.removeFeature(this.blackAccumulator, NnueNetwork.featureIndex(Alliance.BLACK, pieceCode, tileCoordinate));
+    }
+
+    //builds the accumulators from scratch once, every later move only adds and removes a few features
+    private void attach(final SearchBoard board){
+        if(this.board != null){
+            this.board.setPieceListener(null);
+        }
+        for(final Alliance alliance : Alliance.values()){
+            for(final PieceType pieceType : PieceType.values()){
+                this.pieceSets[BitBoard.pieceSetIndex(alliance, pieceType)] = board.getPieces(alliance, pieceType);
+            }
+        }
+        this.network.refresh(this.whiteAccumulator, Alliance.WHITE, this.pieceSets);
+        this.network.refresh(this.blackAccumulator, Alliance.BLACK, this.pieceSets);
+        board.setPieceListener(this);
+        this.board = board;
+    }
+}
@@ -0,0 +1,167 @@
+package engine.search;
+
+import engine.Alliance;
+import engine.board.BitBoard;
+import engine.board.BoardUtils;
+import engine.pieces.Piece.PieceType;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public final class NnueNetwork {
+
+    //"NNUE" in ascii, then the hidden layer size
+    private static final int MAGIC = 0x45554E4E;
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    //one input per piece code and tile, seen from the side whose accumulator it is
+    public static final int INPUT_SIZE = 2 * PieceType.values().length * BoardUtils.NUM_TILES;
+
+    //activations are clipped to [0, QA] and output weights are scaled by QB
+    static final int QA = 255;
+    static final int QB = 64;
+    private static final int OUTPUT_SCALE = 400;
+
+    //products of clipped activations and weights overflow a short, so the dot product widens each half to ints
+    private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final int INT_PARTS = SHORTS.length() / INTS.length();
+
+    private final int hiddenSize;
+    private final short[] featureWeights;
+    private final short[] featureBiases;
+    private final short[] outputWeights;
+    private final int outputBias;
+
+    private NnueNetwork(final int hiddenSize, final short[] featureWeights, final short[] featureBiases,
+                        final short[] outputWeights, final int outputBias){
+        this.hiddenSize = hiddenSize;
+        this.featureWeights = featureWeights;
+        this.featureBiases = featureBiases;
+        this.outputWeights = outputWeights;
+        this.outputBias = outputBias;
+    }
+
+    //little endian: magic, hidden size, input weights feature by feature, hidden biases, output weights, output bias;
+    //the weights are copied onto the heap, where the vector loads below read them
+    public static NnueNetwork load(final Path weightsFile){
+        final ByteBuffer buffer;
+        try {
+            buffer = ByteBuffer.wrap(Files.readAllBytes(weightsFile)).order(ByteOrder.LITTLE_ENDIAN);
+        } catch (final IOException e) {
+            throw new RuntimeException("Could not load network from " + weightsFile, e);
+        }
+        if(buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC){
+            throw new RuntimeException("Not a network file: " + weightsFile);
+        }
+        final int hiddenSize = buffer.getInt();
+        final long expectedBytes = HEADER_BYTES +
+                ((long) INPUT_SIZE * hiddenSize + hiddenSize + 2L * hiddenSize) * Short.BYTES + Integer.BYTES;
+        if(hiddenSize <= 0 || buffer.capacity() != expectedBytes){
+            throw new RuntimeException("Network file " + weightsFile + " has " + buffer.capacity() +
+                    " bytes, expected " + expectedBytes + " for hidden size " + hiddenSize);
+        }
+        final short[] featureWeights = new short[INPUT_SIZE * hiddenSize];
+        final short[] featureBiases = new short[hiddenSize];
+        final short[] outputWeights = new short[2 * hiddenSize];
+        buffer.asShortBuffer().get(featureWeights);
+        buffer.position(buffer.position() + featureWeights.length * Short.BYTES);
+        buffer.asShortBuffer().get(featureBiases);
+        buffer.position(buffer.position() + featureBiases.length * Short.BYTES);
+        buffer.asShortBuffer().get(outputWeights);
+        buffer.position(buffer.position() + outputWeights.length * Short.BYTES);
+        return new NnueNetwork(hiddenSize, featureWeights, featureBiases, outputWeights, buffer.getInt());
+    }
+
+    public int getHiddenSize(){
+        return this.hiddenSize;
+    }
+
+    //own pieces first and the board flipped for black, so both accumulators share one set of weights
+    static int featureIndex(final Alliance perspective, final int pieceCode, final int tileCoordinate){
+        final int numPieceTypes = PieceType.values().length;
+        if(perspective.isWhite()){
+            return pieceCode * BoardUtils.NUM_TILES + tileCoordinate;
+        }
+        final int flippedCode = (pieceCode + numPieceTypes) % (2 * numPieceTypes);
+        return flippedCode * BoardUtils.NUM_TILES + (tileCoordinate ^ (BoardUtils.NUM_TILES - BoardUtils.NUM_TILES_PER_ROW));
+    }
+
+    void refresh(final short[] accumulator, final Alliance perspective, final long[] pieceSets){
+        System.arraycopy(this.featureBiases, 0, accumulator, 0, this.hiddenSize);
+        for(int pieceCode = 0; pieceCode < pieceSets.length; pieceCode++){
+            long pieces = pieceSets[pieceCode];
+            while(pieces != BitBoard.EMPTY){
+                addFeature(accumulator, featureIndex(perspective, pieceCode, BitBoard.firstTile(pieces)));
+                pieces = BitBoard.clearFirstTile(pieces);
+            }
+        }
+    }
+
+    //whole vectors first, then a scalar tail for hidden sizes that are not a multiple of the vector width
+    void addFeature(final short[] accumulator, final int feature){
+        final short[] weights = this.featureWeights;
+        final int offset = feature * this.hiddenSize;
+        final int vectorEnd = SHORTS.loopBound(this.hiddenSize);
+        int i = 0;
+        for(; i < vectorEnd; i += SHORTS.length()){
+            ShortVector.fromArray(SHORTS, accumulator, i)
+                    .add(ShortVector.fromArray(SHORTS, weights, offset + i))
+                    .intoArray(accumulator, i);
+        }
+        for(; i < this.hiddenSize; i++){
+            accumulator[i] += weights[offset + i];
+        }
+    }
+
+    void removeFeature(final short[] accumulator, final int feature){
+        final short[] weights = this.featureWeights;
+        final int offset = feature * this.hiddenSize;
+        final int vectorEnd = SHORTS.loopBound(this.hiddenSize);
+        int i = 0;
+        for(; i < vectorEnd; i += SHORTS.length()){
+            ShortVector.fromArray(SHORTS, accumulator, i)
+                    .sub(ShortVector.fromArray(SHORTS, weights, offset + i))
+                    .intoArray(accumulator, i);
+        }
+        for(; i < this.hiddenSize; i++){
+            accumulator[i] -= weights[offset + i];
+        }
+    }
+
+    //centipawns for the side whose accumulator comes first
+    int evaluate(final short[] sideToMove, final short[] opponent){
+        final int sum = clippedDot(sideToMove, 0) + clippedDot(opponent, this.hiddenSize);
+        return (sum + this.outputBias) * OUTPUT_SCALE / (QA * QB);
+    }
+
+    private int clippedDot(final short[] accumulator, final int weightOffset){
+        final short[] weights = this.outputWeights;
+        final int vectorEnd = SHORTS.loopBound(this.hiddenSize);
+        IntVector sums = IntVector.zero(INTS);
+        int i = 0;
+        for(; i < vectorEnd; i += SHORTS.length()){
+            final ShortVector activations = ShortVector.fromArray(SHORTS, accumulator, i)
+                    .max((short) 0)
+                    .min((short) QA);
+            final ShortVector outputWeights = ShortVector.fromArray(SHORTS, weights, weightOffset + i);
+            for(int part = 0; part < INT_PARTS; part++){
+                final IntVector wideActivations = (IntVector) activations.convertShape(VectorOperators.S2I, INTS, part);
+                final IntVector wideWeights = (IntVector) outputWeights.convertShape(VectorOperators.S2I, INTS, part);
+                sums = sums.add(wideActivations.mul(wideWeights));
+            }
+        }
+        int sum = sums.reduceLanes(VectorOperators.ADD);
+        for(; i < this.hiddenSize; i++){
+            sum += Math.min(Math.max(accumulator[i], 0), QA) * weights[weightOffset + i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,111 @@
+package engine.search;
+
+import engine.Alliance;
+
+import java.util.Arrays;
+
+public final class PawnHashTable {
+
+    public static final int NOT_FOUND = -1;
+
+    //key, two scores and two passed pawn masks
+    private static final int BYTES_PER_ENTRY = 3 * Long.BYTES + 2 * Integer.BYTES;
+
+    private final long[] keys;
+    private final int[] middlegameScores;
+    private final int[] endgameScores;
+    private final long[] whitePassedPawns;
+    private final long[] blackPassedPawns;
+    private final int indexMask;
+
+    private long probes;
+    private long hits;
+
+    //owned by a single search thread, so it needs no synchronization
+    public PawnHashTable(final int sizeInKilobytes){
+        if(sizeInKilobytes < 1){
+            throw new IllegalArgumentException("Pawn hash table needs at least 1 KB: " + sizeInKilobytes);
+        }
+        final int entryCount = Integer.highestOneBit((int) Math.min(((long) sizeInKilobytes << 10) / BYTES_PER_ENTRY,
+                1 << 24));
+        this.keys = new long[entryCount];
+        this.middlegameScores = new int[entryCount];
+        this.endgameScores = new int[entryCount];
+        this.whitePassedPawns = new long[entryCount];
+        this.blackPassedPawns = new long[entryCount];
+        this.indexMask = entryCount - 1;
+    }
+
+    //an empty slot holds key 0 with zero scores, which is exactly the entry for a board without pawns
+    public int probe(final long pawnKey){
+        this.probes++;
+        final int index = index(pawnKey);
+        if(this.keys[index] == pawnKey){
+            this.hits++;
+            return index;
+        }
+        return NOT_FOUND;
+    }
+
+    public int store(final long pawnKey, final int middlegameScore, final int endgameScore, final long whitePassed,
+                     final long blackPassed){
+        final int index = index(pawnKey);
+        this.keys[index] = pawnKey;
+        this.middlegameScores[index] = middlegameScore;
+        this.endgameScores[index] = endgameScore;
+        this.whitePassedPawns[index] = whitePassed;
+        this.blackPassedPawns[index] = blackPassed;
+        return index;
+    }
+
+    public int getMiddlegameScore(final int index){
+        return this.middlegameScores[index];
+    }
+
+    public int getEndgameScore(final int index){
+        return this.endgameScores[index];
+    }
+
+    public long getPassedPawns(final int index, final Alliance alliance){
+        return alliance.isWhite() ? this.whitePassedPawns[index] : this.blackPassedPawns[index];
+    }
+
+    public void clear(){
+        Arrays.fill(this.keys, 0L);
+        Arrays.fill(this.middlegameScores, 0);
+        Arrays.fill(this.endgameScores, 0);
+        Arrays.fill(this.whitePassedPawns, 0L);
+        Arrays.fill(this.blackPassedPawns, 0L);
+        resetStatistics();
+    }
+
+    public void resetStatistics(){
+        this.probes = 0;
+        this.hits = 0;
+    }
+
+    public int getEntryCount(){
+        return this.keys.length;
+    }
+
+    public long getProbes(){
+        return this.probes;
+    }
+
+    public long getHits(){
+        return this.hits;
+    }
+
+    public double getHitRate(){
+        return this.probes == 0 ? 0.0 : (double) this.hits / this.probes;
+    }
+
+    @Override
+    public String toString(){
+        return String.format("Pawn hash %d entries: %d probes, %.1f%% hits", getEntryCount(), this.probes, getHitRate() * 100);
+    }
+
+    private int index(final long pawnKey){
+        return (int) (pawnKey ^ (pawnKey >>> 32)) & this.indexMask;
+    }
+}
@@ -0,0 +1,152 @@
+package engine.search;
+
+import engine.Alliance;
+import engine.board.BitBoard;
+import engine.board.BoardUtils;
+import engine.board.SearchBoard;
+import engine.pieces.Piece.PieceType;
+
+public class PawnStructureEvaluator implements BoardEvaluator {
+
+    private static final int DEFAULT_SIZE_IN_KILOBYTES = 1024;
+
+    private static final int DOUBLED_MIDDLEGAME = -10;
+    private static final int DOUBLED_ENDGAME = -20;
+    private static final int ISOLATED_MIDDLEGAME = -10;
+    private static final int ISOLATED_ENDGAME = -15;
+    private static final int BACKWARD_MIDDLEGAME = -8;
+    private static final int BACKWARD_ENDGAME = -10;
+
+    //indexed by how many ranks the pawn has advanced
+    private static final int[] PASSED_MIDDLEGAME = {0, 5, 10, 15, 25, 40, 60, 0};
+    private static final int[] PASSED_ENDGAME = {0, 10, 20, 35, 60, 100, 150, 0};
+    private static final int[] FREE_PASSED_ENDGAME = {0, 0, 5, 10, 20, 35, 60, 0};
+
+    private static final long[] FILE_MASKS = new long[BoardUtils.NUM_TILES_PER_ROW];
+    private static final long[] ADJACENT_FILE_MASKS = new long[BoardUtils.NUM_TILES_PER_ROW];
+    //tiles ahead of a pawn on its own and the adjacent files
+    private static final long[][] PASSED_PAWN_MASKS = new long[Alliance.values().length][BoardUtils.NUM_TILES];
+    //tiles on the adjacent files level with or behind a pawn, where a supporting pawn could stand
+    private static final long[][] SUPPORT_MASKS = new long[Alliance.values().length][BoardUtils.NUM_TILES];
+
+    static {
+        for(int i = 0; i < BoardUtils.NUM_TILES; i++){
+            FILE_MASKS[i % BoardUtils.NUM_TILES_PER_ROW] |= BitBoard.tileMask(i);
+        }
+        for(int column = 0; column < BoardUtils.NUM_TILES_PER_ROW; column++){
+            ADJACENT_FILE_MASKS[column] = (column > 0 ? FILE_MASKS[column - 1] : 0L) |
+                    (column < BoardUtils.NUM_TILES_PER_ROW - 1 ? FILE_MASKS[column + 1] : 0L);
+        }
+        for(final Alliance alliance : Alliance.values()){
+            for(int i = 0; i < BoardUtils.NUM_TILES; i++){
+                final int row = i / BoardUtils.NUM_TILES_PER_ROW;
+                final int column = i % BoardUtils.NUM_TILES_PER_ROW;
+                for(int other = 0; other < BoardUtils.NUM_TILES; other++){
+                    final int otherRow = other / BoardUtils.NUM_TILES_PER_ROW;
+                    final int rowsAhead = (otherRow - row) * alliance.getDirection();
+                    if(rowsAhead > 0 && ((FILE_MASKS[column] | ADJACENT_FILE_MASKS[column]) & BitBoard.tileMask(other)) != 0){
+                        PASSED_PAWN_MASKS[alliance.ordinal()][i] |= BitBoard.tileMask(other);
+                    }
+                    if(rowsAhead <= 0 && (ADJACENT_FILE_MASKS[column] & BitBoard.tileMask(other)) != 0){
+                        SUPPORT_MASKS[alliance.ordinal()][i] |= BitBoard.tileMask(other);
+                    }
+                }
+            }
+        }
+    }
+
+    private final PawnHashTable pawnHashTable;
+
+    public PawnStructureEvaluator(){
+        this(new PawnHashTable(DEFAULT_SIZE_IN_KILOBYTES));
+    }
+
+    public PawnStructureEvaluator(final PawnHashTable pawnHashTable){
+        this.pawnHashTable = pawnHashTable;
+    }
+
+    public PawnHashTable getPawnHashTable(){
+        return this.pawnHashTable;
+    }
+
+    @Override
+    public int evaluate(final SearchBoard board) {
+        int index = this.pawnHashTable.probe(board.pawnKey());
+        if(index == PawnHashTable.NOT_FOUND){
+            index = storePawnStructure(board);
+        }
+        final int middlegameScore = board.getMiddlegameScore() + this.pawnHashTable.getMiddlegameScore(index);
+        final int endgameScore = board.getEndgameScore() + this.pawnHashTable.getEndgameScore(index) +
+                freePassedPawns(board, this.pawnHashTable.getPassedPawns(index, Alliance.WHITE), Alliance.WHITE) -
+                freePassedPawns(board, this.pawnHashTable.getPassedPawns(index, Alliance.BLACK), Alliance.BLACK);
+        return TaperedEvaluator.taper(board, middlegameScore, endgameScore);
+    }
+
+    private int storePawnStructure(final SearchBoard board){
+        final long whitePawns = board.getPieces(Alliance.WHITE, PieceType.PAWN);
+        final long blackPawns = board.getPieces(Alliance.BLACK, PieceType.PAWN);
+        int middlegameScore = 0;
+        int endgameScore = 0;
+        long whitePassed = BitBoard.EMPTY;
+        long blackPassed = BitBoard.EMPTY;
+        for(final Alliance alliance : Alliance.values()){
+            final long pawns = alliance.isWhite() ? whitePawns : blackPawns;
+            final long enemyPawns = alliance.isWhite() ? blackPawns : whitePawns;
+            final int sign = alliance.isWhite() ? 1 : -1;
+            long remaining = pawns;
+            while(remaining != BitBoard.EMPTY){
+                final int tile = BitBoard.firstTile(remaining);
+                final int column = tile % BoardUtils.NUM_TILES_PER_ROW;
+                final int advancedRanks = advancedRanks(alliance, tile);
+                if((PASSED_PAWN_MASKS[alliance.ordinal()][tile] & FILE_MASKS[column] & pawns) != BitBoard.EMPTY){
+                    middlegameScore += sign * DOUBLED_MIDDLEGAME;
+                    endgameScore += sign * DOUBLED_ENDGAME;
+                }
+                if((ADJACENT_FILE_MASKS[column] & pawns) == BitBoard.EMPTY){
+                    middlegameScore += sign * ISOLATED_MIDDLEGAME;
+                    endgameScore += sign * ISOLATED_ENDGAME;
+                } else if(isBackward(alliance, tile, pawns, enemyPawns)){
+                    middlegameScore += sign * BACKWARD_MIDDLEGAME;
+                    endgameScore += sign * BACKWARD_ENDGAME;
+                }
+                if((PASSED_PAWN_MASKS[alliance.ordinal()][tile] & enemyPawns) == BitBoard.EMPTY){
+                    middlegameScore += sign * PASSED_MIDDLEGAME[advancedRanks];
+                    endgameScore += sign * PASSED_ENDGAME[advancedRanks];
+                    if(alliance.isWhite()){
+                        whitePassed |= BitBoard.tileMask(tile);
+                    } else {
+                        blackPassed |= BitBoard.tileMask(tile);
+                    }
+                }
+                remaining = BitBoard.clearFirstTile(remaining);
+            }
+        }
+        return this.pawnHashTable.store(board.pawnKey(), middlegameScore, endgameScore, whitePassed, blackPassed);
+    }
+
+    //no pawn can support it and advancing walks into an enemy pawn's capture
+    private static boolean isBackward(final Alliance alliance, final int tile, final long pawns, final long enemyPawns){
+        final int stopTile = tile + alliance.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+        return (SUPPORT_MASKS[alliance.ordinal()][tile] & pawns) == BitBoard.EMPTY &&
+                (BoardUtils.PAWN_ATTACKS[alliance.ordinal()][stopTile] & enemyPawns) != BitBoard.EMPTY;
+    }
+
+    //depends on the other pieces, so it is added on top of the cached pawn score
+    private static int freePassedPawns(final SearchBoard board, long passedPawns, final Alliance alliance){
+        int score = 0;
+        while(passedPawns != BitBoard.EMPTY){
+            final int tile = BitBoard.firstTile(passedPawns);
+            final int stopTile = tile + alliance.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+            if(board.getPieceCode(stopTile) == SearchBoard.NO_PIECE){
+                score += FREE_PASSED_ENDGAME[advancedRanks(alliance, tile)];
+            }
+            passedPawns = BitBoard.clearFirstTile(passedPawns);
+        }
+        return score;
+    }
+
+    private static int advancedRanks(final Alliance alliance, final int tile){
+        final int row = tile / BoardUtils.NUM_TILES_PER_ROW;
+        return alliance.isWhite() ? BoardUtils.NUM_TILES_PER_ROW - 1 - row : row;
+    }
+}
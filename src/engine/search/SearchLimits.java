@@ -0,0 +1,89 @@
+package engine.search;
+
+public final class SearchLimits {
+
+    public static final int MAX_DEPTH = AlphaBetaSearch.MAX_PLY - 1;
+
+    private final int maxDepth;
+    private final long maxNodes;
+    private final long maxTimeMillis;
+
+    private SearchLimits(final Builder builder){
+        this.maxDepth = builder.maxDepth;
+        this.maxNodes = builder.maxNodes;
+        this.maxTimeMillis = builder.maxTimeMillis;
+    }
+
+    public static SearchLimits depth(final int maxDepth){
+        return new Builder().setMaxDepth(maxDepth).build();
+    }
+
+    public static SearchLimits time(final long maxTimeMillis){
+        return new Builder().setMaxTime(maxTimeMillis).build();
+    }
+
+    public static SearchLimits nodes(final long maxNodes){
+        return new Builder().setMaxNodes(maxNodes).build();
+    }
+
+    public int getMaxDepth(){
+        return this.maxDepth;
+    }
+
+    public long getMaxNodes(){
+        return this.maxNodes;
+    }
+
+    public long getMaxTimeMillis(){
+        return this.maxTimeMillis;
+    }
+
+    public boolean hasNodeLimit(){
+        return this.maxNodes != Long.MAX_VALUE;
+    }
+
+    public boolean hasTimeLimit(){
+        return this.maxTimeMillis != Long.MAX_VALUE;
+    }
+
+    public static class Builder {
+
+        int maxDepth;
+        long maxNodes;
+        long maxTimeMillis;
+
+        public Builder(){
+            this.maxDepth = MAX_DEPTH;
+            this.maxNodes = Long.MAX_VALUE;
+            this.maxTimeMillis = Long.MAX_VALUE;
+        }
+
+        public Builder setMaxDepth(final int maxDepth){
+            if(maxDepth < 1 || maxDepth > MAX_DEPTH){
+                throw new IllegalArgumentException("Search depth must be between 1 and " + MAX_DEPTH + ": " + maxDepth);
+            }
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        public Builder setMaxNodes(final long maxNodes){
+            if(maxNodes < 1){
+                throw new IllegalArgumentException("Node limit must be positive: " + maxNodes);
+            }
+            this.maxNodes = maxNodes;
+            return this;
+        }
+
+        public Builder setMaxTime(final long maxTimeMillis){
+            if(maxTimeMillis < 1){
+                throw new IllegalArgumentException("Time limit must be positive: " + maxTimeMillis);
+            }
+            this.maxTimeMillis = maxTimeMillis;
+            return this;
+        }
+
+        public SearchLimits build(){
+            return new SearchLimits(this);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package engine.search;
+
+import com.google.common.collect.ImmutableList;
+import engine.board.Move;
+
+import java.util.List;
+
+public class SearchResult {
+
+    private final List<Move> principalVariation;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    SearchResult(final List<Move> principalVariation, final int score, final int depth, final long nodes, final long elapsedNanos){
+        this.principalVariation = ImmutableList.copyOf(principalVariation);
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public Move getBestMove(){
+        return this.principalVariation.isEmpty() ? Move.NULL_MOVE : this.principalVariation.get(0);
+    }
+
+    public List<Move> getPrincipalVariation(){
+        return this.principalVariation;
+    }
+
+    public int getScore(){
+        return this.score;
+    }
+
+    public boolean isMateScore(){
+        return Math.abs(this.score) >= AlphaBetaSearch.MATE - AlphaBetaSearch.MAX_PLY;
+    }
+
+    public int getDepth(){
+        return this.depth;
+    }
+
+    public long getNodes(){
+        return this.nodes;
+    }
+
+    public long getElapsedNanos(){
+        return this.elapsedNanos;
+    }
+
+    public long getNodesPerSecond(){
+        return this.elapsedNanos == 0 ? 0 : (long) (this.nodes * 1_000_000_000.0 / this.elapsedNanos);
+    }
+
+    @Override
+    public String toString(){
+        return String.format("depth %d score %d nodes %d nps %d pv %s", this.depth, this.score, this.nodes,
+                getNodesPerSecond(), AlphaBetaSearch.principalVariationText(this.principalVariation));
+    }
+}
@@ -0,0 +1,83 @@
+package engine.search;
+
+import engine.Alliance;
+import engine.board.BitBoard;
+import engine.board.BoardUtils;
+import engine.board.MoveEncoding;
+import engine.board.SearchBoard;
+import engine.pieces.Piece.PieceType;
+
+public final class StaticExchange {
+
+    //a capture can be answered at most once by every other piece on the board
+    private static final int MAX_EXCHANGES = 32;
+
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private final int[] gain;
+
+    public StaticExchange(){
+        this.gain = new int[MAX_EXCHANGES];
+    }
+
+    //material balance for the side to move once both sides have traded on the destination tile as long as it pays
+    public int evaluate(final SearchBoard board, final int move){
+        final int from = MoveEncoding.getFrom(move);
+        final int to = MoveEncoding.getTo(move);
+        final PieceType promotionType = MoveEncoding.getPromotionType(move);
+        final int capturedCode = MoveEncoding.getCapturedPiece(move);
+
+        long occupancy = board.getOccupancy() & ~BitBoard.tileMask(from);
+        if(MoveEncoding.isEnPassant(move)){
+            occupancy &= ~BitBoard.tileMask(to - board.getSideToMove().getDirection() * BoardUtils.NUM_TILES_PER_ROW);
+        }
+
+        final int[] gain = this.gain;
+        gain[0] = capturedCode == SearchBoard.NO_PIECE ? 0 : BitBoard.pieceTypeOf(capturedCode).getPieceValue();
+        int pieceOnTile = BitBoard.pieceTypeOf(MoveEncoding.getMovedPiece(move)).getPieceValue();
+        if(promotionType != null){
+            gain[0] += promotionType.getPieceValue() - PieceType.PAWN.getPieceValue();
+            pieceOnTile = promotionType.getPieceValue();
+        }
+
+        Alliance side = board.getSideToMove().getOpposite();
+        int exchanges = 0;
+        while(exchanges < MAX_EXCHANGES - 1){
+            final long sideAttackers = board.getAttackers(to, side, occupancy);
+            if(sideAttackers == BitBoard.EMPTY){
+                break;
+            }
+            final PieceType attackerType = leastValuableAttacker(board, side, sideAttackers);
+            final long attacker = BitBoard.tileMask(BitBoard.firstTile(sideAttackers & board.getPieces(side, attackerType)));
+            //the king may only recapture when nothing defends the tile any more
+            if(attackerType.isKing() && board.getAttackers(to, side.getOpposite(), occupancy & ~attacker) != BitBoard.EMPTY){
+                break;
+            }
+            exchanges++;
+            gain[exchanges] = pieceOnTile - gain[exchanges - 1];
+            pieceOnTile = attackerType.getPieceValue();
+            occupancy &= ~attacker;
+            side = side.getOpposite();
+        }
+
+        //either side may stop trading whenever carrying on would lose material
+        while(exchanges > 0){
+            gain[exchanges - 1] = -Math.max(-gain[exchanges - 1], gain[exchanges]);
+            exchanges--;
+        }
+        return gain[0];
+    }
+
+    public boolean isLosing(final SearchBoard board, final int move){
+        return evaluate(board, move) < 0;
+    }
+
+    private static PieceType leastValuableAttacker(final SearchBoard board, final Alliance side, final long attackers){
+        for(final PieceType pieceType : PIECE_TYPES){
+            if((attackers & board.getPieces(side, pieceType)) != BitBoard.EMPTY){
+                return pieceType;
+            }
+        }
+        throw new RuntimeException("No attacker among " + Long.toHexString(attackers));
+    }
+}
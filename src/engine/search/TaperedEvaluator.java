@@ -0,0 +1,19 @@
+package engine.search;
+
+import engine.board.PieceSquareTables;
+import engine.board.SearchBoard;
+
+public class TaperedEvaluator implements BoardEvaluator {
+
+    @Override
+    public int evaluate(final SearchBoard board) {
+        return taper(board, board.getMiddlegameScore(), board.getEndgameScore());
+    }
+
+    //blends white's middlegame and endgame scores by how much material is left, promotions can push the phase past the maximum
+    static int taper(final SearchBoard board, final int middlegameScore, final int endgameScore){
+        final int phase = Math.min(board.getGamePhase(), PieceSquareTables.MAX_PHASE);
+        final int score = (middlegameScore * phase + endgameScore * (PieceSquareTables.MAX_PHASE - phase)) / PieceSquareTables.MAX_PHASE;
+        return board.getSideToMove().isWhite() ? score : -score;
+    }
+}
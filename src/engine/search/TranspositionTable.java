@@ -0,0 +1,213 @@
+package engine.search;
+
+import engine.board.Board;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class TranspositionTable {
+
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+
+    public static final long NO_ENTRY = 0L;
+
+    //two entries per bucket, two longs per entry: the key xor-ed with the data, then the data
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final int ENTRIES_PER_BUCKET = 2;
+    private static final int LONGS_PER_BUCKET = LONGS_PER_ENTRY * ENTRIES_PER_BUCKET;
+    private static final int BYTES_PER_BUCKET = LONGS_PER_BUCKET * Long.BYTES;
+    //largest power of two bucket count whose backing long[] still fits a Java array
+    private static final int MAX_BUCKETS = 1 << 28;
+
+    private static final int SCORE_SHIFT = 32;
+    private static final int DEPTH_SHIFT = 48;
+    private static final int BOUND_SHIFT = 56;
+    private static final int GENERATION_SHIFT = 58;
+    private static final int GENERATION_MASK = 0x3F;
+
+    private final long[] table;
+    private final int bucketMask;
+    private volatile int generation;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder overwrites = new LongAdder();
+
+    public TranspositionTable(final int sizeInMegabytes){
+        if(sizeInMegabytes < 1){
+            throw new IllegalArgumentException("Transposition table needs at least 1 MB: " + sizeInMegabytes);
+        }
+        final long requestedBuckets = ((long) sizeInMegabytes << 20) / BYTES_PER_BUCKET;
+        final int bucketCount = (int) Math.min(Long.highestOneBit(requestedBuckets), MAX_BUCKETS);
+        this.table = new long[bucketCount * LONGS_PER_BUCKET];
+        this.bucketMask = bucketCount - 1;
+        this.generation = 0;
+    }
+
+    public long probe(final Board board){
+        return probe(board.zobristKey());
+    }
+
+    public long probe(final long key){
+        this.probes.increment();
+        final int bucket = bucketIndex(key);
+        boolean occupied = false;
+        for(int i = bucket; i < bucket + LONGS_PER_BUCKET; i += LONGS_PER_ENTRY){
+            final long data = this.table[i + 1];
+            final long checkedKey = this.table[i] ^ data;
+            if(data != NO_ENTRY && checkedKey == key){
+                this.hits.increment();
+                return data;
+            }
+            occupied |= data != NO_ENTRY;
+        }
+        if(occupied){
+            this.collisions.increment();
+        }
+        return NO_ENTRY;
+    }
+
+    public void store(final long key, final int move, final int score, final int depth, final int bound){
+        final int bucket = bucketIndex(key);
+        final int currentGeneration = this.generation;
+        final long data = pack(move, score, depth, bound, currentGeneration);
+        this.stores.increment();
+
+        //depth-preferred slot: keep the deeper result unless it is stale or the same position
+        final long preferredData = this.table[bucket + 1];
+        final long preferredKey = this.table[bucket] ^ preferredData;
+        if(preferredData == NO_ENTRY || preferredKey == key || depth >= getDepth(preferredData) ||
+                getGeneration(preferredData) != currentGeneration){
+            if(preferredData != NO_ENTRY && preferredKey != key){
+                this.overwrites.increment();
+            }
+            write(bucket, key, data);
+            return;
+        }
+
+        //always-replace slot
+        final int alwaysReplace = bucket + LONGS_PER_ENTRY;
+        final long replacedData = this.table[alwaysReplace + 1];
+        if(replacedData != NO_ENTRY && (this.table[alwaysReplace] ^ replacedData) != key){
+            this.overwrites.increment();
+        }
+        write(alwaysReplace, key, data);
+    }
+
+    public void newSearch(){
+        this.generation = (this.generation + 1) & GENERATION_MASK;
+    }
+
+    public void clear(){
+        Arrays.fill(this.table, 0L);
+        this.generation = 0;
+        resetStatistics();
+    }
+
+    public void resetStatistics(){
+        this.probes.reset();
+        this.hits.reset();
+        this.collisions.reset();
+        this.stores.reset();
+        this.overwrites.reset();
+    }
+
+    public long getSizeInBytes(){
+        return (long) this.table.length * Long.BYTES;
+    }
+
+    public int getEntryCount(){
+        return (this.bucketMask + 1) * ENTRIES_PER_BUCKET;
+    }
+
+    public long getProbes(){
+        return this.probes.sum();
+    }
+
+    public long getHits(){
+        return this.hits.sum();
+    }
+
+    public long getCollisions(){
+        return this.collisions.sum();
+    }
+
+    public long getStores(){
+        return this.stores.sum();
+    }
+
+    public long getOverwrites(){
+        return this.overwrites.sum();
+    }
+
+    public double getHitRate(){
+        final long probeCount = getProbes();
+        return probeCount == 0 ? 0.0 : (double) getHits() / probeCount;
+    }
+
+    //per mille of sampled entries written during the current search, as reported by UCI engines
+    public int getHashFull(){
+        final int sampledEntries = Math.min(1000, getEntryCount());
+        int used = 0;
+        for(int i = 0; i < sampledEntries; i++){
+            final long data = this.table[i * LONGS_PER_ENTRY + 1];
+            if(data != NO_ENTRY && getGeneration(data) == this.generation){
+                used++;
+            }
+        }
+        return used * 1000 / sampledEntries;
+    }
+
+    @Override
+    public String toString(){
+        return String.format("TT %d MB: %d probes, %.1f%% hits, %d collisions, %d stores, %d overwrites",
+                getSizeInBytes() >> 20, getProbes(), getHitRate() * 100, getCollisions(), getStores(), getOverwrites());
+    }
+
+    public static int getMove(final long data){
+        return (int) data;
+    }
+
+    public static int getScore(final long data){
+        return (short) (data >>> SCORE_SHIFT);
+    }
+
+    public static int getDepth(final long data){
+        return (int) ((data >>> DEPTH_SHIFT) & 0xFF);
+    }
+
+    public static int getBound(final long data){
+        return (int) ((data >>> BOUND_SHIFT) & 0x3);
+    }
+
+    private static int getGeneration(final long data){
+        return (int) ((data >>> GENERATION_SHIFT) & GENERATION_MASK);
+    }
+
+    private static long pack(final int move, final int score, final int depth, final int bound, final int generation){
+        if(score < Short.MIN_VALUE || score > Short.MAX_VALUE){
+            throw new IllegalArgumentException("Score does not fit a transposition table entry: " + score);
+        }
+        if(bound < EXACT || bound > UPPER_BOUND){
+            throw new IllegalArgumentException("Invalid bound type: " + bound);
+        }
+        return (move & 0xFFFFFFFFL) |
+                ((long) (score & 0xFFFF) << SCORE_SHIFT) |
+                ((long) Math.max(0, Math.min(depth, 0xFF)) << DEPTH_SHIFT) |
+                ((long) bound << BOUND_SHIFT) |
+                ((long) generation << GENERATION_SHIFT);
+    }
+
+    private void write(final int entry, final long key, final long data){
+        this.table[entry] = key ^ data;
+        this.table[entry + 1] = data;
+    }
+
+    private int bucketIndex(final long key){
+        return ((int) (key ^ (key >>> 32)) & this.bucketMask) * LONGS_PER_BUCKET;
+    }
+}
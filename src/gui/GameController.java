@@ -0,0 +1,160 @@
+package gui;
+
+import engine.Alliance;
+import engine.board.Board;
+import engine.board.Move;
+import engine.pgn.PgnGame;
+import engine.pgn.PgnReader;
+import engine.pgn.PgnUtilities;
+import engine.player.MoveTransition;
+import engine.search.AlphaBetaSearch;
+import engine.search.PawnStructureEvaluator;
+import engine.search.SearchLimits;
+import engine.search.SearchResult;
+import engine.search.TranspositionTable;
+
+import javax.swing.*;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+class GameController {
+
+    private static final int TRANSPOSITION_TABLE_SIZE_IN_MEGABYTES = 16;
+    private static final long ENGINE_MOVE_TIME_MILLIS = 1000;
+
+    private final Consumer<Board> boardPublisher;
+    private final ExecutorService executor;
+    private final AlphaBetaSearch engine;
+    private final SearchLimits engineLimits;
+
+    private volatile Alliance computerAlliance;
+    //raised when the pending request is superseded, it also stops that request's search
+    private AtomicBoolean pendingCancelled;
+    private Future<?> pendingRequest;
+
+    //the publisher always runs on the event dispatch thread, all other work happens on the executor
+    GameController(final Consumer<Board> boardPublisher){
+        this.boardPublisher = boardPublisher;
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "game-controller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.engine = new AlphaBetaSearch(new PawnStructureEvaluator(), new TranspositionTable(TRANSPOSITION_TABLE_SIZE_IN_MEGABYTES));
+        this.engineLimits = SearchLimits.time(ENGINE_MOVE_TIME_MILLIS);
+        this.pendingCancelled = new AtomicBoolean();
+    }
+
+    //null leaves both sides to the user
+    void setComputerAlliance(final Alliance computerAlliance){
+        this.computerAlliance = computerAlliance;
+    }
+
+    //validates the user's move off the event dispatch thread, then lets the computer reply if it is its turn
+    void requestMove(final Board board, final int currentCoordinate, final int destinationCoordinate){
+        final AtomicBoolean cancelled = startRequest();
+        this.pendingRequest = this.executor.submit(() -> {
+            final Move move = Move.MoveFactory.createMove(board, currentCoordinate, destinationCoordinate);
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if(transition.getMoveStatus().isDone()){
+                publish(() -> this.boardPublisher.accept(transition.getTransitionBoard()), cancelled);
+                replyIfComputerToMove(transition.getTransitionBoard(), cancelled);
+            }
+        });
+    }
+
+    void requestComputerMove(final Board board){
+        final AtomicBoolean cancelled = startRequest();
+        this.pendingRequest = this.executor.submit(() -> replyIfComputerToMove(board, cancelled));
+    }
+
+    //replays the first game in the file and publishes its final position
+    void requestGame(final Path pgnFile, final Consumer<PgnGame> gameLoaded, final Consumer<String> loadFailed){
+        final AtomicBoolean cancelled = startRequest();
+        this.pendingRequest = this.executor.submit(() -> {
+            final PgnGame game;
+            Board board;
+            try(final PgnReader reader = new PgnReader(pgnFile)){
+                game = reader.readGame();
+                if(game == null){
+                    publish(() -> loadFailed.accept("No games in " + pgnFile.getFileName()), cancelled);
+                    return;
+                }
+                board = PgnUtilities.createStartingBoard(game);
+                for(final String san : game.getMoves()){
+                    if(isCancelled(cancelled)){
+                        return;
+                    }
+                    board = PgnUtilities.playMove(board, san).getTransitionBoard();
+                }
+            } catch (final RuntimeException e) {
+                publish(() -> loadFailed.accept(e.getMessage()), cancelled);
+                return;
+            }
+            final Board finalBoard = board;
+            publish(() -> {
+                this.boardPublisher.accept(finalBoard);
+                gameLoaded.accept(game);
+            }, cancelled);
+            replyIfComputerToMove(finalBoard, cancelled);
+        });
+    }
+
+    //drops whatever is still pending, its results are never published
+    void cancel(){
+        this.pendingCancelled.set(true);
+        if(this.pendingRequest != null){
+            this.pendingRequest.cancel(true);
+            this.pendingRequest = null;
+        }
+    }
+
+    void shutdown(){
+        cancel();
+        this.executor.shutdownNow();
+    }
+
+    private AtomicBoolean startRequest(){
+        cancel();
+        this.pendingCancelled = new AtomicBoolean();
+        return this.pendingCancelled;
+    }
+
+    private void replyIfComputerToMove(final Board board, final AtomicBoolean cancelled){
+        if(board.currentPlayer().getAlliance() != this.computerAlliance ||
+                board.currentPlayer().isInCheckMate() || board.currentPlayer().isInStaleMate()){
+            return;
+        }
+        //a cancelled search may still be unwinding on another thread, the engine is only used by one at a time
+        final SearchResult result;
+        synchronized (this.engine){
+            if(isCancelled(cancelled)){
+                return;
+            }
+            result = this.engine.search(board, this.engineLimits, cancelled);
+        }
+        final MoveTransition transition = board.currentPlayer().makeMove(result.getBestMove());
+        if(transition.getMoveStatus().isDone()){
+            publish(() -> this.boardPublisher.accept(transition.getTransitionBoard()), cancelled);
+        }
+    }
+
+    private static void publish(final Runnable update, final AtomicBoolean cancelled){
+        if(isCancelled(cancelled)){
+            return;
+        }
+        SwingUtilities.invokeLater(() -> {
+            if(!cancelled.get()){
+                update.run();
+            }
+        });
+    }
+
+    private static boolean isCancelled(final AtomicBoolean cancelled){
+        return cancelled.get() || Thread.currentThread().isInterrupted();
+    }
+}
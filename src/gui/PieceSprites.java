@@ -0,0 +1,42 @@
+package gui;
+
+import engine.Alliance;
+import engine.board.BitBoard;
+import engine.pieces.Piece;
+import engine.pieces.Piece.PieceType;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+class PieceSprites {
+
+    private final ImageIcon[] icons;
+
+    //every alliance and piece type is read from disk once, redraws only hand out the shared icons
+    PieceSprites(final String pieceImagesPath){
+        this.icons = new ImageIcon[Alliance.values().length * PieceType.values().length];
+        for(final Alliance alliance : Alliance.values()){
+            for(final PieceType pieceType : PieceType.values()){
+                final File imageFile = new File(pieceImagesPath + alliance.toString().substring(0, 1) + pieceType + ".gif");
+                try {
+                    //read gives null rather than throwing when no installed reader understands the file
+                    final BufferedImage image = ImageIO.read(imageFile);
+                    if(image == null){
+                        throw new IOException("Unreadable image " + imageFile);
+                    }
+                    this.icons[BitBoard.pieceSetIndex(alliance, pieceType)] = new ImageIcon(image);
+                } catch (final IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    //null for an empty tile or a sprite that failed to load
+    ImageIcon getIcon(final Piece piece){
+        return piece == null ? null : this.icons[BitBoard.pieceSetIndex(piece.getPieceAlliance(), piece.getPieceType())];
+    }
+}
@@ -1,22 +1,18 @@
 package gui;
 
+import engine.Alliance;
 import engine.board.Board;
 import engine.board.BoardUtils;
-import engine.board.Move;
 import engine.board.Tile;
 import engine.pieces.Piece;
-import engine.player.MoveTransition;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
-import java.awt.image.BufferedImage;
 import java.io.File;
-import java.io.IOException;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -27,6 +23,8 @@ public class Table {
 
     private final JFrame gameFrame;
     private final BoardPanel boardPanel;
+    private final PieceSprites pieceSprites;
+    private final GameController gameController;
     private Board chessBoard;
 
     private Tile sourceTile;
@@ -48,6 +46,8 @@ public class Table {
         this.gameFrame.setJMenuBar(tableMenuBar);
         this.gameFrame.setSize(OUTER_FRAME_DIMENSION);
         this.chessBoard = Board.createStandardBoard();
+        this.pieceSprites = new PieceSprites(defaultPieceImagesPath);
+        this.gameController = new GameController(this::showBoard);
         this.boardPanel = new BoardPanel();
         this.gameFrame.add(this.boardPanel, BorderLayout.CENTER);
         this.gameFrame.setVisible(true);
@@ -56,16 +56,34 @@ public class Table {
     private JMenuBar createTableMenuBar(){
         final JMenuBar tableMenuBar = new JMenuBar();
         tableMenuBar.add(createFileMenu());
+        tableMenuBar.add(createOptionsMenu());
         return tableMenuBar;
     }
 
+    private JMenu createOptionsMenu() {
+        final JMenu optionsMenu = new JMenu("Options");
+        final JCheckBoxMenuItem computerPlaysBlack = new JCheckBoxMenuItem("Computer Plays Black");
+        computerPlaysBlack.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                gameController.setComputerAlliance(computerPlaysBlack.isSelected() ? Alliance.BLACK : null);
+                gameController.requestComputerMove(chessBoard);
+            }
+        });
+        optionsMenu.add(computerPlaysBlack);
+        return optionsMenu;
+    }
+
     private JMenu createFileMenu() {
         final JMenu fileMenu = new JMenu("File");
         final JMenuItem openPGN = new JMenuItem("Load PGN File");
         openPGN.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                System.out.println("Open up that pgn file!");
+                final JFileChooser chooser = new JFileChooser();
+                if(chooser.showOpenDialog(gameFrame) == JFileChooser.APPROVE_OPTION){
+                    loadPGNFile(chooser.getSelectedFile());
+                }
             }
         });
         fileMenu.add(openPGN);
@@ -81,8 +99,25 @@ public class Table {
         return fileMenu;
     }
 
+    private void showBoard(final Board board){
+        this.chessBoard = board;
+        this.boardPanel.drawBoard(board);
+    }
+
+    //the game is read and replayed on the controller's executor, the board arrives through showBoard
+    private void loadPGNFile(final File pgnFile){
+        this.gameController.requestGame(pgnFile.toPath(), game -> {
+            this.sourceTile = null;
+            this.destinationTile = null;
+            this.humanMovedPiece = null;
+            this.gameFrame.setTitle("Chess - " + game);
+        }, message -> JOptionPane.showMessageDialog(this.gameFrame, message, "Could not load " + pgnFile.getName(),
+                JOptionPane.ERROR_MESSAGE));
+    }
+
     private class BoardPanel extends JPanel{
         final List<TilePanel> boardTiles;
+        private Board drawnBoard;
 
         BoardPanel(){
             super(new GridLayout(8,8));
@@ -92,23 +127,26 @@ public class Table {
                 this.boardTiles.add(tilePanel);
                 add(tilePanel);
             }
+            this.drawnBoard = chessBoard;
             setPreferredSize(BOARD_PANEL_DIMENSION);
             validate();
         }
 
+        //the tiles never change, only those whose sprite differs from the drawn board get repainted
         public void drawBoard(final Board board){
-            removeAll();
             for(final TilePanel tilePanel : boardTiles){
-                tilePanel.drawTile(board);
-                add(tilePanel);
+                if(pieceSprites.getIcon(this.drawnBoard.getTile(tilePanel.tileId).getPiece()) !=
+                        pieceSprites.getIcon(board.getTile(tilePanel.tileId).getPiece())){
+                    tilePanel.drawTile(board);
+                }
             }
-            validate();
-            repaint();
+            this.drawnBoard = board;
         }
     }
 
     private class TilePanel extends JPanel{
         private final int tileId;
+        private ImageIcon pieceIcon;
 
         TilePanel(final BoardPanel boardPanel, final int tileId){
             super(new GridBagLayout());
@@ -133,21 +171,11 @@ public class Table {
                         } else {
                             destinationTile = chessBoard.getTile(tileId);
                             System.out.println(destinationTile.getTileCoordinate());
-                            final Move move = Move.MoveFactory.createMove(chessBoard, sourceTile.getTileCoordinate(), destinationTile.getTileCoordinate());
-                            final MoveTransition transition = chessBoard.currentPlayer().makeMove(move);
-                            if(transition.getMoveStatus().isDone()){
-                                chessBoard = transition.getTransitionBoard();
-                            }
+                            gameController.requestMove(chessBoard, sourceTile.getTileCoordinate(), destinationTile.getTileCoordinate());
                             sourceTile = null;
                             destinationTile = null;
                             humanMovedPiece = null;
                         }
-                        SwingUtilities.invokeLater(new Runnable() {
-                            @Override
-                            public void run() {
-                                boardPanel.drawBoard(chessBoard);
-                            }
-                        });
                     }
                 }
 
@@ -176,25 +204,24 @@ public class Table {
         }
 
         public void drawTile(final Board board){
-            assignTileColor();
             assignTilePieceIcon(board);
-            validate();
             repaint();
         }
 
-        private void assignTilePieceIcon(final Board board){
-            this.removeAll();
-            if(board.getTile(this.tileId).isTileOccupied()){
-                try {
-                    final BufferedImage image = ImageIO.read(new File(defaultPieceImagesPath + board.getTile(this.tileId).getPiece().getPieceAlliance().toString().substring(0, 1) +
-                    board.getTile(this.tileId).getPiece().toString() + ".gif"));
-                    add(new JLabel(new ImageIcon(image)));
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
+        //painted straight onto the tile, so changing the piece never touches the layout
+        @Override
+        protected void paintComponent(final Graphics g){
+            super.paintComponent(g);
+            if(this.pieceIcon != null){
+                this.pieceIcon.paintIcon(this, g, (getWidth() - this.pieceIcon.getIconWidth()) / 2,
+                        (getHeight() - this.pieceIcon.getIconHeight()) / 2);
             }
         }
 
+        private void assignTilePieceIcon(final Board board){
+            this.pieceIcon = pieceSprites.getIcon(board.getTile(this.tileId).getPiece());
+        }
+
         private void assignTileColor() {
             if(BoardUtils.EIGHTH_RANK[this.tileId] ||
                     BoardUtils.SIXTH_RANK[this.tileId] ||